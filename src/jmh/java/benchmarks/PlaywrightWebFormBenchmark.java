@@ -0,0 +1,101 @@
+package benchmarks;
+
+import com.microsoft.playwright.Page;
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import extensions.PlaywrightBrowserPool;
+import fixtures.FixtureServer;
+import fixtures.UploadFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pages.playwright.WebFormPage;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaywrightWebFormBenchmark {
+    private PlaywrightBrowserPool pool;
+    private Page page;
+    private WebFormPage webFormPage;
+    private String webFormUrl;
+    private Path uploadFile;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TestPropertiesConfig config = Configs.get();
+        webFormUrl = FixtureServer.start().baseUrl() + "web-form.html";
+        uploadFile = UploadFixtures.bannerImage();
+
+        pool = new PlaywrightBrowserPool(config);
+        page = pool.browser().newContext().newPage();
+        page.navigate(webFormUrl);
+        webFormPage = new WebFormPage(page);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.close();
+        FixtureServer.stop();
+    }
+
+    @Benchmark
+    public void navigate() {
+        page.navigate(webFormUrl);
+    }
+
+    @Benchmark
+    public int locateById() {
+        return page.locator("#my-text-id").count();
+    }
+
+    @Benchmark
+    public int locateByCss() {
+        return page.locator("css=[name='my-password']").count();
+    }
+
+    @Benchmark
+    public int locateByXpath() {
+        return page.locator("xpath=//button[text()='Submit']").count();
+    }
+
+    @Benchmark
+    public void fill() {
+        webFormPage.inputLogin("username");
+    }
+
+    @Benchmark
+    public void clear() {
+        webFormPage.clearTextValue();
+    }
+
+    @Benchmark
+    public void selectOption() {
+        webFormPage.selectOption("2");
+    }
+
+    @Benchmark
+    public String inputValue() {
+        return webFormPage.getTextValue();
+    }
+
+    @Benchmark
+    public void uploadFile() {
+        webFormPage.uploadFile(uploadFile);
+    }
+}
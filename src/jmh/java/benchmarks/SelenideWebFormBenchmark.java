@@ -0,0 +1,112 @@
+package benchmarks;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.WebDriverRunner;
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import extensions.SelenideExtension;
+import fixtures.FixtureServer;
+import fixtures.UploadFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import pages.selenide.WebFormPage;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static com.codeborne.selenide.Selenide.$;
+import static com.codeborne.selenide.Selenide.$x;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelenideWebFormBenchmark {
+    private SelenideDriver driver;
+    private WebFormPage webFormPage;
+    private String webFormUrl;
+    private Path uploadFile;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TestPropertiesConfig config = Configs.get();
+        webFormUrl = FixtureServer.start().baseUrl() + "web-form.html";
+        uploadFile = UploadFixtures.bannerImage();
+
+        driver = new SelenideDriver(new SelenideConfig()
+                .browser(SelenideExtension.browserName(config.getBrowser()))
+                .headless(config.isHeadless())
+                .browserSize(config.getBrowserSize()));
+        WebDriverRunner.setWebDriver(driver.getAndCheckWebDriver());
+        Selenide.open(webFormUrl);
+        webFormPage = new WebFormPage();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.close();
+        FixtureServer.stop();
+    }
+
+    @Benchmark
+    public void navigate() {
+        Selenide.open(webFormUrl);
+    }
+
+    @Benchmark
+    public WebElement locateById() {
+        return $(By.id("my-text-id")).toWebElement();
+    }
+
+    @Benchmark
+    public WebElement locateByCss() {
+        return $("[name='my-password']").toWebElement();
+    }
+
+    @Benchmark
+    public WebElement locateByXpath() {
+        return $x("//button[text()='Submit']").toWebElement();
+    }
+
+    @Benchmark
+    public void fill() {
+        webFormPage.clearTextValue();
+        webFormPage.inputLogin("username");
+    }
+
+    @Benchmark
+    public void clear() {
+        webFormPage.clearTextValue();
+    }
+
+    @Benchmark
+    public void selectOption() {
+        webFormPage.selectOption("2");
+    }
+
+    @Benchmark
+    public String inputValue() {
+        return webFormPage.getTextValue();
+    }
+
+    @Benchmark
+    public void uploadFile() {
+        webFormPage.uploadFile(uploadFile);
+    }
+}
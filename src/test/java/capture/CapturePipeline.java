@@ -0,0 +1,132 @@
+package capture;
+
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import io.qameta.allure.Allure;
+import metrics.JsonReports;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public final class CapturePipeline {
+    private static CapturePipeline instance;
+
+    private final ThreadPoolExecutor executor;
+    private final Path reportFile;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong callerRuns = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private CapturePipeline(int workers, int queueSize, Path reportFile) {
+        this.reportFile = reportFile;
+        this.executor = new ThreadPoolExecutor(workers, workers, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "capture-pipeline");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> {
+                    callerRuns.incrementAndGet();
+                    if (!pool.isShutdown()) {
+                        task.run();
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static synchronized CapturePipeline instance() {
+        if (instance == null) {
+            TestPropertiesConfig config = Configs.get();
+            instance = new CapturePipeline(config.getCaptureWorkers(), config.getCaptureQueueSize(),
+                    Paths.get(config.getCaptureReportFile()));
+        }
+        return instance;
+    }
+
+    public static synchronized void shutdown() throws InterruptedException {
+        if (instance == null) {
+            return;
+        }
+        CapturePipeline pipeline = instance;
+        instance = null;
+        pipeline.executor.shutdown();
+        pipeline.executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("attachments", pipeline.submitted.get());
+        report.put("writtenOnTestThread", pipeline.callerRuns.get());
+        report.put("failed", pipeline.failed.get());
+        JsonReports.write(pipeline.reportFile, report);
+    }
+
+    public void capture(CaptureTarget target, String label) {
+        byte[] screenshot;
+        String dom;
+        try {
+            screenshot = target.screenshot();
+            dom = target.dom();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            System.err.println("Could not capture " + label + ": " + e.getMessage());
+            return;
+        }
+        attach(label + " screenshot", "image/png", "png", () -> recompress(screenshot));
+        attach(label + " DOM", "text/html", "html", () -> dom.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void attach(String name, String type, String extension, Supplier<byte[]> encode) {
+        String source = Allure.getLifecycle().prepareAttachment(name, type, extension);
+        submitted.incrementAndGet();
+        executor.execute(() -> {
+            try (InputStream content = new ByteArrayInputStream(encode.get())) {
+                Allure.getLifecycle().writeAttachment(source, content);
+            } catch (IOException | RuntimeException e) {
+                failed.incrementAndGet();
+                System.err.println("Could not write attachment " + name + ": " + e.getMessage());
+            }
+        });
+    }
+
+    private static byte[] recompress(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                return png;
+            }
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(0f);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(png.length);
+            try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+                writer.setOutput(imageOut);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return out.size() < png.length ? out.toByteArray() : png;
+        } catch (IOException e) {
+            return png;
+        }
+    }
+}
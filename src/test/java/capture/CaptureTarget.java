@@ -0,0 +1,23 @@
+package capture;
+
+import java.util.function.Supplier;
+
+public interface CaptureTarget {
+    byte[] screenshot();
+
+    String dom();
+
+    static CaptureTarget of(Supplier<byte[]> screenshot, Supplier<String> dom) {
+        return new CaptureTarget() {
+            @Override
+            public byte[] screenshot() {
+                return screenshot.get();
+            }
+
+            @Override
+            public String dom() {
+                return dom.get();
+            }
+        };
+    }
+}
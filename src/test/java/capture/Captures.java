@@ -0,0 +1,27 @@
+package capture;
+
+public final class Captures {
+    private static final ThreadLocal<CaptureTarget> TARGET = new ThreadLocal<>();
+
+    private Captures() {
+    }
+
+    public static void bind(CaptureTarget target) {
+        if (target == null) {
+            TARGET.remove();
+        } else {
+            TARGET.set(target);
+        }
+    }
+
+    public static CaptureTarget current() {
+        return TARGET.get();
+    }
+
+    public static void capture(String label) {
+        CaptureTarget target = TARGET.get();
+        if (target != null) {
+            CapturePipeline.instance().capture(target, label);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package capture;
+
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+
+public class FailureCaptureExtension implements BeforeEachCallback, TestExecutionExceptionHandler {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(FailureCaptureExtension.class);
+
+    private final TestPropertiesConfig config = Configs.get();
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(PipelineShutdown.class,
+                key -> new PipelineShutdown(), PipelineShutdown.class);
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        if (config.isCaptureOnFailure()) {
+            Captures.capture("Failure");
+        }
+        throw throwable;
+    }
+
+    private static class PipelineShutdown implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() throws InterruptedException {
+            CapturePipeline.shutdown();
+        }
+    }
+}
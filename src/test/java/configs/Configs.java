@@ -0,0 +1,45 @@
+package configs;
+
+import org.aeonbits.owner.ConfigCache;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class Configs {
+    private Configs() {
+    }
+
+    public static TestPropertiesConfig get() {
+        TestPropertiesConfig config = ConfigCache.getOrCreate(TestPropertiesConfig.class, System.getProperties());
+        if (config.getConfigReloadSeconds() > 0) {
+            Reloader.start();
+        }
+        return config;
+    }
+
+    public static void reload() {
+        get().reload();
+    }
+
+    /** The JVM initialises this class once, however many threads reach {@link #start()} first. */
+    private static final class Reloader {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "config-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static {
+            long seconds = ConfigCache.getOrCreate(TestPropertiesConfig.class, System.getProperties()).getConfigReloadSeconds();
+            EXECUTOR.scheduleWithFixedDelay(Configs::reload, seconds, seconds, TimeUnit.SECONDS);
+        }
+
+        private Reloader() {
+        }
+
+        static void start() {
+            // loading the class schedules the reload
+        }
+    }
+}
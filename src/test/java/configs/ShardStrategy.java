@@ -0,0 +1,6 @@
+package configs;
+
+public enum ShardStrategy {
+    HASH,
+    DURATION
+}
@@ -1,12 +1,15 @@
 package configs;
 
 import org.aeonbits.owner.Config;
+import org.aeonbits.owner.Reloadable;
+
+import java.util.List;
 
 @Config.Sources({
         "classpath:${env}.properties",
         "classpath:default.properties",
 })
-public interface TestPropertiesConfig extends org.aeonbits.owner.Config {
+public interface TestPropertiesConfig extends org.aeonbits.owner.Config, Reloadable {
     @Key("login")
     String getUsername();
 
@@ -15,4 +18,272 @@ public interface TestPropertiesConfig extends org.aeonbits.owner.Config {
 
     @Key("baseUrl")
     String getBaseUrl();
+
+    @Key("configReloadSeconds")
+    @DefaultValue("0")
+    long getConfigReloadSeconds();
+
+    @Key("fixtureHost")
+    @DefaultValue("localhost")
+    String getFixtureHost();
+
+    @Key("fixturePort")
+    @DefaultValue("0")
+    int getFixturePort();
+
+    @Key("submissionDir")
+    @DefaultValue("build/submissions")
+    String getSubmissionDir();
+
+    @Key("browser")
+    @DefaultValue("chromium")
+    String getBrowser();
+
+    @Key("browserChannel")
+    @DefaultValue("")
+    String getBrowserChannel();
+
+    @Key("headless")
+    @DefaultValue("true")
+    boolean isHeadless();
+
+    @Key("slowMo")
+    @DefaultValue("0")
+    double getSlowMo();
+
+    @Key("launchArgs")
+    @DefaultValue("")
+    List<String> getLaunchArgs();
+
+    @Key("browserSize")
+    @DefaultValue("1920x1080")
+    String getBrowserSize();
+
+    @Key("engines")
+    @DefaultValue("selenide,playwright")
+    List<String> getEngines();
+
+    @Key("selenidePoolSize")
+    @DefaultValue("0")
+    int getSelenidePoolSize();
+
+    @Key("remote")
+    @DefaultValue("")
+    String getRemote();
+
+    @Key("remoteConnectionTimeout")
+    @DefaultValue("10000")
+    long getRemoteConnectionTimeout();
+
+    @Key("remoteReadTimeout")
+    @DefaultValue("90000")
+    long getRemoteReadTimeout();
+
+    @Key("recordingProxy")
+    @DefaultValue("false")
+    boolean isRecordingProxy();
+
+    @Key("proxyStoreDir")
+    @DefaultValue("build/proxy-store")
+    String getProxyStoreDir();
+
+    @Key("proxyReplayOnly")
+    @DefaultValue("false")
+    boolean isProxyReplayOnly();
+
+    @Key("proxyBlockedUrls")
+    @DefaultValue("")
+    List<String> getProxyBlockedUrls();
+
+    @Key("proxyReportFile")
+    @DefaultValue("build/reports/recording-proxy.json")
+    String getProxyReportFile();
+
+    @Key("storageSnapshot")
+    @DefaultValue("false")
+    boolean isStorageSnapshot();
+
+    @Key("storageStateDir")
+    @DefaultValue("build/storage-state")
+    String getStorageStateDir();
+
+    @Key("contextRecycling")
+    @DefaultValue("false")
+    boolean isContextRecycling();
+
+    @Key("contextSetupReportFile")
+    @DefaultValue("build/reports/context-setup.json")
+    String getContextSetupReportFile();
+
+    @Key("assetCache")
+    @DefaultValue("false")
+    boolean isAssetCache();
+
+    @Key("assetCacheMaxBytes")
+    @DefaultValue("33554432")
+    long getAssetCacheMaxBytes();
+
+    @Key("blockThirdParty")
+    @DefaultValue("false")
+    boolean isBlockThirdParty();
+
+    @Key("firstPartyHosts")
+    @DefaultValue("")
+    List<String> getFirstPartyHosts();
+
+    @Key("assetCacheReportFile")
+    @DefaultValue("build/reports/asset-cache.json")
+    String getAssetCacheReportFile();
+
+    @Key("tracing")
+    @DefaultValue("ON_FAILURE")
+    TracingPolicy getTracingPolicy();
+
+    @Key("tracingSampleRate")
+    @DefaultValue("0.1")
+    double getTracingSampleRate();
+
+    @Key("tracingDir")
+    @DefaultValue("build/traces")
+    String getTracingDir();
+
+    @Key("loadDataset")
+    @DefaultValue("")
+    String getLoadDataset();
+
+    @Key("loadWorkers")
+    @DefaultValue("4")
+    int getLoadWorkers();
+
+    @Key("loadBrowsers")
+    @DefaultValue("2")
+    int getLoadBrowsers();
+
+    @Key("loadRate")
+    @DefaultValue("50")
+    double getLoadRate();
+
+    @Key("loadMaxRows")
+    @DefaultValue("0")
+    long getLoadMaxRows();
+
+    @Key("loadReportFile")
+    @DefaultValue("build/reports/load-results.json")
+    String getLoadReportFile();
+
+    @Key("captureOnFailure")
+    @DefaultValue("true")
+    boolean isCaptureOnFailure();
+
+    @Key("captureSteps")
+    @DefaultValue("false")
+    boolean isCaptureSteps();
+
+    @Key("captureWorkers")
+    @DefaultValue("2")
+    int getCaptureWorkers();
+
+    @Key("captureQueueSize")
+    @DefaultValue("32")
+    int getCaptureQueueSize();
+
+    @Key("captureReportFile")
+    @DefaultValue("build/reports/capture-pipeline.json")
+    String getCaptureReportFile();
+
+    @Key("durationStoreFile")
+    @DefaultValue("build/test-durations.json")
+    String getDurationStoreFile();
+
+    @Key("retryMaxAttempts")
+    @DefaultValue("3")
+    int getRetryMaxAttempts();
+
+    @Key("flakeHistoryFile")
+    @DefaultValue("build/flake-history.json")
+    String getFlakeHistoryFile();
+
+    @Key("flakeWindow")
+    @DefaultValue("20")
+    int getFlakeWindow();
+
+    @Key("quarantineMinRuns")
+    @DefaultValue("5")
+    int getQuarantineMinRuns();
+
+    @Key("quarantineThreshold")
+    @DefaultValue("0.2")
+    double getQuarantineThreshold();
+
+    @Key("runQuarantined")
+    @DefaultValue("false")
+    boolean isRunQuarantined();
+
+    @Key("quarantineReportFile")
+    @DefaultValue("build/reports/quarantine.json")
+    String getQuarantineReportFile();
+
+    @Key("quarantineAuditFile")
+    @DefaultValue("build/reports/quarantine-audit.json")
+    String getQuarantineAuditFile();
+
+    @Key("shardIndex")
+    @DefaultValue("0")
+    int getShardIndex();
+
+    @Key("shardTotal")
+    @DefaultValue("1")
+    int getShardTotal();
+
+    @Key("shardStrategy")
+    @DefaultValue("HASH")
+    ShardStrategy getShardStrategy();
+
+    @Key("shardOutputDir")
+    @DefaultValue("build/shards")
+    String getShardOutputDir();
+
+    @Key("uploadLargeFileMb")
+    @DefaultValue("0")
+    long getUploadLargeFileMb();
+
+    @Key("uploadFixtureDir")
+    @DefaultValue("")
+    String getUploadFixtureDir();
+
+    @Key("uploadReportFile")
+    @DefaultValue("build/reports/upload-comparison.json")
+    String getUploadReportFile();
+
+    @Key("stepTimingsFile")
+    @DefaultValue("build/reports/step-timings.json")
+    String getStepTimingsFile();
+
+    @Key("locatorProfiling")
+    @DefaultValue("false")
+    boolean isLocatorProfiling();
+
+    @Key("locatorRewrite")
+    @DefaultValue("false")
+    boolean isLocatorRewrite();
+
+    @Key("locatorProfileIterations")
+    @DefaultValue("50")
+    int getLocatorProfileIterations();
+
+    @Key("locatorReportFile")
+    @DefaultValue("build/reports/locator-profile.json")
+    String getLocatorReportFile();
+
+    @Key("pollingInterval")
+    @DefaultValue("200")
+    long getPollingInterval();
+
+    @Key("waitTimeout")
+    @DefaultValue("4000")
+    long getWaitTimeout();
+
+    @Key("waitTimesFile")
+    @DefaultValue("build/reports/wait-times.json")
+    String getWaitTimesFile();
 }
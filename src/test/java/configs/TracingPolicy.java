@@ -0,0 +1,8 @@
+package configs;
+
+public enum TracingPolicy {
+    OFF,
+    ON_FAILURE,
+    ALWAYS,
+    SAMPLED
+}
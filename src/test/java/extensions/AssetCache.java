@@ -0,0 +1,126 @@
+package extensions;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Route;
+import metrics.JsonReports;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AssetCache implements ExtensionContext.Store.CloseableResource {
+    private static final Set<String> CACHEABLE_TYPES = Set.of("stylesheet", "script", "image", "font");
+
+    private final long maxBytes;
+    private final boolean blockThirdParty;
+    private final Set<String> firstPartyHosts;
+    private final String reportFile;
+    private final LinkedHashMap<String, CachedAsset> assets = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+
+    public AssetCache(long maxBytes, boolean blockThirdParty, String baseUrl, List<String> allowedHosts, String reportFile) {
+        this.maxBytes = maxBytes;
+        this.blockThirdParty = blockThirdParty;
+        this.firstPartyHosts = new HashSet<>();
+        this.reportFile = reportFile;
+        firstPartyHosts.add(URI.create(baseUrl).getHost());
+        allowedHosts.stream()
+                .filter(host -> !host.isBlank())
+                .forEach(firstPartyHosts::add);
+    }
+
+    public void handle(Route route) {
+        String url = route.request().url();
+        if (blockThirdParty && !firstPartyHosts.contains(URI.create(url).getHost())) {
+            blocked.incrementAndGet();
+            route.abort("blockedbyclient");
+            return;
+        }
+        if (!"GET".equals(route.request().method()) || !CACHEABLE_TYPES.contains(route.request().resourceType())) {
+            route.resume();
+            return;
+        }
+
+        CachedAsset cached = get(url);
+        if (cached != null) {
+            hits.incrementAndGet();
+            bytesSaved.addAndGet(cached.body.length);
+            route.fulfill(new Route.FulfillOptions()
+                    .setStatus(cached.status)
+                    .setHeaders(cached.headers)
+                    .setBodyBytes(cached.body));
+            return;
+        }
+
+        misses.incrementAndGet();
+        APIResponse response = route.fetch();
+        if (response.status() == 200) {
+            put(url, new CachedAsset(response.status(), response.headers(), response.body()));
+        }
+        route.fulfill(new Route.FulfillOptions().setResponse(response));
+    }
+
+    private synchronized CachedAsset get(String url) {
+        return assets.get(url);
+    }
+
+    private synchronized void put(String url, CachedAsset asset) {
+        if (asset.body.length > maxBytes) {
+            return;
+        }
+        CachedAsset previous = assets.put(url, asset);
+        cachedBytes += asset.body.length - (previous == null ? 0 : previous.body.length);
+
+        Iterator<CachedAsset> eldest = assets.values().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            cachedBytes -= eldest.next().body.length;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() {
+        long requests = hits.get() + misses.get();
+        double hitRate = requests == 0 ? 0 : (double) hits.get() / requests;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", requests);
+        report.put("hits", hits.get());
+        report.put("misses", misses.get());
+        report.put("hitRate", hitRate);
+        report.put("bytesSaved", bytesSaved.get());
+        report.put("evictions", evictions.get());
+        report.put("blocked", blocked.get());
+        synchronized (this) {
+            report.put("cachedAssets", assets.size());
+            report.put("cachedBytes", cachedBytes);
+        }
+        JsonReports.write(Paths.get(reportFile), report);
+    }
+
+    private static class CachedAsset {
+        private final int status;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        private CachedAsset(int status, Map<String, String> headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package extensions;
+
+import metrics.JsonReports;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ContextSetupStats implements ExtensionContext.Store.CloseableResource {
+    private final String reportFile;
+    private final AtomicLong freshCount = new AtomicLong();
+    private final AtomicLong freshNanos = new AtomicLong();
+    private final AtomicLong recycledCount = new AtomicLong();
+    private final AtomicLong recycledNanos = new AtomicLong();
+
+    public ContextSetupStats(String reportFile) {
+        this.reportFile = reportFile;
+    }
+
+    public void record(boolean recycled, long nanos) {
+        if (recycled) {
+            recycledCount.incrementAndGet();
+            recycledNanos.addAndGet(nanos);
+        } else {
+            freshCount.incrementAndGet();
+            freshNanos.addAndGet(nanos);
+        }
+    }
+
+    @Override
+    public void close() {
+        double freshAverage = averageMillis(freshNanos.get(), freshCount.get());
+        double recycledAverage = averageMillis(recycledNanos.get(), recycledCount.get());
+        double saved = recycledCount.get() * Math.max(0, freshAverage - recycledAverage);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("fresh", freshCount.get());
+        report.put("freshMeanMs", freshAverage);
+        report.put("recycled", recycledCount.get());
+        report.put("recycledMeanMs", recycledAverage);
+        report.put("savedMs", saved);
+        JsonReports.write(Paths.get(reportFile), report);
+    }
+
+    private static double averageMillis(long nanos, long count) {
+        return count == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(nanos) / count / 1000;
+    }
+}
@@ -0,0 +1,47 @@
+package extensions;
+
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import pages.HomePage;
+import pages.WebFormPage;
+
+public enum Engine {
+    SELENIDE {
+        @Override
+        public Extension driverExtension() {
+            return new SelenideExtension();
+        }
+
+        @Override
+        public HomePage homePage(ExtensionContext context) {
+            return new pages.selenide.HomePage();
+        }
+
+        @Override
+        public WebFormPage webFormPage(ExtensionContext context) {
+            return new pages.selenide.WebFormPage();
+        }
+    },
+    PLAYWRIGHT {
+        @Override
+        public Extension driverExtension() {
+            return new PlaywrightExtension();
+        }
+
+        @Override
+        public HomePage homePage(ExtensionContext context) {
+            return new pages.playwright.HomePage(PlaywrightExtension.page(context));
+        }
+
+        @Override
+        public WebFormPage webFormPage(ExtensionContext context) {
+            return new pages.playwright.WebFormPage(PlaywrightExtension.page(context));
+        }
+    };
+
+    public abstract Extension driverExtension();
+
+    public abstract HomePage homePage(ExtensionContext context);
+
+    public abstract WebFormPage webFormPage(ExtensionContext context);
+}
@@ -0,0 +1,73 @@
+package extensions;
+
+import configs.Configs;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.commons.support.AnnotationSupport;
+import pages.HomePage;
+import pages.WebFormPage;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+public class EngineExtension implements TestTemplateInvocationContextProvider {
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return AnnotationSupport.isAnnotated(context.getTestMethod(), EngineTest.class);
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        return Configs.get().getEngines().stream()
+                .filter(engine -> !engine.isBlank())
+                .map(engine -> Engine.valueOf(engine.trim().toUpperCase(Locale.ROOT)))
+                .map(EngineInvocationContext::new);
+    }
+
+    private static class EngineInvocationContext implements TestTemplateInvocationContext {
+        private final Engine engine;
+
+        private EngineInvocationContext(Engine engine) {
+            this.engine = engine;
+        }
+
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return engine.name().toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public List<Extension> getAdditionalExtensions() {
+            return List.of(engine.driverExtension(), new EnginePageResolver(engine));
+        }
+    }
+
+    private static class EnginePageResolver implements ParameterResolver {
+        private final Engine engine;
+
+        private EnginePageResolver(Engine engine) {
+            this.engine = engine;
+        }
+
+        @Override
+        public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+            Class<?> type = parameterContext.getParameter().getType();
+            return type == Engine.class || type == HomePage.class || type == WebFormPage.class;
+        }
+
+        @Override
+        public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+            Class<?> type = parameterContext.getParameter().getType();
+            if (type == Engine.class) {
+                return engine;
+            }
+            return type == HomePage.class ? engine.homePage(extensionContext) : engine.webFormPage(extensionContext);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package extensions;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import configs.TestPropertiesConfig;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class PlaywrightBrowserPool implements ExtensionContext.Store.CloseableResource {
+    private final TestPropertiesConfig config;
+    private final Map<Thread, Instance> instances = new ConcurrentHashMap<>();
+    private final ThreadLocal<Page> recycledPages = new ThreadLocal<>();
+    private final ThreadLocal<Path> storageStates = new ThreadLocal<>();
+
+    public PlaywrightBrowserPool(TestPropertiesConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * The browser of the calling worker. Each worker keeps its instance for the whole launcher session and
+     * is the only thread that uses it; creating and closing happen on the instance's own lifecycle thread,
+     * so the pool can close every instance at the end without touching the workers.
+     */
+    public Browser browser() {
+        return instances.computeIfAbsent(Thread.currentThread(), owner -> new Instance(config)).browser;
+    }
+
+    public Path storageState(Function<Browser, Path> capture) {
+        Path storageState = storageStates.get();
+        if (storageState == null) {
+            storageState = capture.apply(browser());
+            storageStates.set(storageState);
+        }
+        return storageState;
+    }
+
+    public Page recycledPage() {
+        Page page = recycledPages.get();
+        if (page != null && page.isClosed()) {
+            recycledPages.remove();
+            return null;
+        }
+        return page;
+    }
+
+    public void keepRecycledPage(Page page) {
+        recycledPages.set(page);
+    }
+
+    public void discardRecycledPage() {
+        Page page = recycledPages.get();
+        recycledPages.remove();
+        if (page != null) {
+            page.context().close();
+        }
+    }
+
+    public static Browser launch(Playwright playwright, TestPropertiesConfig config, List<String> extraArgs) {
+        List<String> args = Stream.concat(config.getLaunchArgs().stream(), extraArgs.stream())
+                .filter(arg -> !arg.isBlank())
+                .collect(Collectors.toList());
+        BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
+                .setHeadless(config.isHeadless())
+                .setSlowMo(config.getSlowMo())
+                .setArgs(args);
+        if (!config.getBrowserChannel().isBlank()) {
+            options.setChannel(config.getBrowserChannel());
+        }
+        return browserType(playwright, config).launch(options);
+    }
+
+    public static boolean isChromium(TestPropertiesConfig config) {
+        switch (config.getBrowser()) {
+            case "firefox":
+            case "webkit":
+            case "safari":
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static BrowserType browserType(Playwright playwright, TestPropertiesConfig config) {
+        switch (config.getBrowser()) {
+            case "firefox":
+                return playwright.firefox();
+            case "webkit":
+            case "safari":
+                return playwright.webkit();
+            default:
+                return playwright.chromium();
+        }
+    }
+
+    @Override
+    public void close() {
+        instances.values().forEach(Instance::close);
+        instances.clear();
+    }
+
+    private static final class Instance {
+        private final ExecutorService lifecycle = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "playwright-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private final Playwright playwright;
+        private final Browser browser;
+
+        private Instance(TestPropertiesConfig config) {
+            this.playwright = onLifecycleThread(Playwright::create);
+            this.browser = onLifecycleThread(() -> launch(playwright, config, List.of()));
+        }
+
+        private void close() {
+            try {
+                onLifecycleThread(() -> {
+                    playwright.close();
+                    return null;
+                });
+            } finally {
+                lifecycle.shutdown();
+            }
+        }
+
+        private <T> T onLifecycleThread(Callable<T> task) {
+            try {
+                return lifecycle.submit(task).get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
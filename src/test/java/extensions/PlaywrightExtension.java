@@ -0,0 +1,200 @@
+package extensions;
+
+import capture.CaptureTarget;
+import capture.Captures;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Tracing;
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import configs.TracingPolicy;
+import metrics.LocatorProfile;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+import pages.playwright.HomePage;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class PlaywrightExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(PlaywrightExtension.class);
+    private static final String RECYCLED = "recycled";
+    private static final String TRACED = "traced";
+    private static final String RESET_SCRIPT = "() => {" +
+            " try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}" +
+            " document.querySelectorAll('form').forEach(form => form.reset());" +
+            " }";
+
+    private final TestPropertiesConfig config = Configs.get();
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        PlaywrightBrowserPool pool = pool(context);
+        boolean recycle = config.isContextRecycling() && !needsFreshContext(context);
+
+        // one-off browser launch and storage capture would otherwise count as fresh context cost
+        pool.browser();
+        if (config.isStorageSnapshot()) {
+            pool.storageState(this::captureStorageState);
+        }
+        long start = System.nanoTime();
+
+        Page page = recycle ? pool.recycledPage() : null;
+        boolean reused = page != null;
+        if (reused) {
+            reset(page);
+        } else {
+            page = openContext(pool, context).newPage();
+            if (recycle) {
+                pool.keepRecycledPage(page);
+            }
+        }
+        stats(context).record(reused, System.nanoTime() - start);
+
+        boolean traced = shouldTrace();
+        if (traced) {
+            page.context().tracing().startChunk(new Tracing.StartChunkOptions().setTitle(context.getDisplayName()));
+        }
+
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put(BrowserContext.class, page.context());
+        store.put(Page.class, page);
+        store.put(RECYCLED, recycle);
+        store.put(TRACED, traced);
+        Captures.bind(CaptureTarget.of(page::screenshot, page::content));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        BrowserContext browserContext = store.remove(BrowserContext.class, BrowserContext.class);
+        store.remove(Page.class);
+        Captures.bind(null);
+        boolean recycled = Boolean.TRUE.equals(store.remove(RECYCLED, Boolean.class));
+        boolean traced = Boolean.TRUE.equals(store.remove(TRACED, Boolean.class));
+        if (browserContext == null) {
+            return;
+        }
+
+        LocatorProfile.profilePending();
+        if (traced) {
+            stopTracing(browserContext, context);
+        }
+        if (!recycled) {
+            browserContext.close();
+        } else if (context.getExecutionException().isPresent()) {
+            pool(context).discardRecycledPage();
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Class<?> type = parameterContext.getParameter().getType();
+        return type == Page.class || type == BrowserContext.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Class<?> type = parameterContext.getParameter().getType();
+        return extensionContext.getStore(NAMESPACE).get(type, type);
+    }
+
+    public static Page page(ExtensionContext context) {
+        return context.getStore(NAMESPACE).get(Page.class, Page.class);
+    }
+
+    private BrowserContext openContext(PlaywrightBrowserPool pool, ExtensionContext context) {
+        Browser.NewContextOptions options = new Browser.NewContextOptions();
+        if (config.isStorageSnapshot()) {
+            options.setStorageStatePath(pool.storageState(this::captureStorageState));
+        }
+        BrowserContext browserContext = pool.browser().newContext(options);
+        if (config.isAssetCache()) {
+            browserContext.route("**/*", assetCache(context)::handle);
+        }
+        if (config.getTracingPolicy() != TracingPolicy.OFF) {
+            browserContext.tracing().start(new Tracing.StartOptions()
+                    .setScreenshots(true)
+                    .setSnapshots(true)
+                    .setSources(true));
+            browserContext.tracing().stopChunk();
+        }
+        return browserContext;
+    }
+
+    private Path captureStorageState(Browser browser) {
+        Path file = Paths.get(config.getStorageStateDir(), "playwright-" + Thread.currentThread().getId() + ".json");
+        try (BrowserContext setup = browser.newContext()) {
+            HomePage homePage = new HomePage(setup.newPage());
+            homePage.open();
+            homePage.openWebForm();
+            setup.storageState(new BrowserContext.StorageStateOptions().setPath(file));
+        }
+        return file;
+    }
+
+    private boolean shouldTrace() {
+        switch (config.getTracingPolicy()) {
+            case ON_FAILURE:
+            case ALWAYS:
+                return true;
+            case SAMPLED:
+                return ThreadLocalRandom.current().nextDouble() < config.getTracingSampleRate();
+            default:
+                return false;
+        }
+    }
+
+    private void stopTracing(BrowserContext browserContext, ExtensionContext context) {
+        boolean retain = config.getTracingPolicy() != TracingPolicy.ON_FAILURE || context.getExecutionException().isPresent();
+        Tracing.StopChunkOptions options = new Tracing.StopChunkOptions();
+        if (retain) {
+            options.setPath(tracePath(context));
+        }
+        browserContext.tracing().stopChunk(options);
+    }
+
+    private Path tracePath(ExtensionContext context) {
+        String name = context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName()
+                + "-" + Integer.toHexString(context.getUniqueId().hashCode()) + ".zip";
+        return Paths.get(config.getTracingDir(), name);
+    }
+
+    private static void reset(Page page) {
+        BrowserContext browserContext = page.context();
+        browserContext.pages().stream()
+                .filter(other -> other != page)
+                .forEach(Page::close);
+        browserContext.clearCookies();
+        page.evaluate(RESET_SCRIPT);
+    }
+
+    private static boolean needsFreshContext(ExtensionContext context) {
+        return AnnotationSupport.isAnnotated(context.getRequiredTestMethod(), FreshContext.class)
+                || AnnotationSupport.isAnnotated(context.getRequiredTestClass(), FreshContext.class)
+                || RetryExtension.isRetry(context);
+    }
+
+    private PlaywrightBrowserPool pool(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(PlaywrightBrowserPool.class, key -> new PlaywrightBrowserPool(config), PlaywrightBrowserPool.class);
+    }
+
+    private AssetCache assetCache(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(AssetCache.class, key -> new AssetCache(config.getAssetCacheMaxBytes(), config.isBlockThirdParty(),
+                        config.getBaseUrl(), config.getFirstPartyHosts(), config.getAssetCacheReportFile()), AssetCache.class);
+    }
+
+    private ContextSetupStats stats(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(ContextSetupStats.class, key -> new ContextSetupStats(config.getContextSetupReportFile()),
+                        ContextSetupStats.class);
+    }
+}
@@ -0,0 +1,26 @@
+package extensions;
+
+import configs.Configs;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import scheduling.FlakeHistory;
+
+public class QuarantineCondition implements ExecutionCondition {
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (context.getTestMethod().isEmpty()) {
+            return ConditionEvaluationResult.enabled("not a test method");
+        }
+        boolean quarantined = FlakeHistory.instance().isQuarantined(RetryExtension.key(context));
+        if (Configs.get().isRunQuarantined()) {
+            return quarantined
+                    ? ConditionEvaluationResult.enabled("quarantined test in the quarantine run")
+                    : ConditionEvaluationResult.disabled("stable tests are skipped in the quarantine run");
+        }
+        return quarantined
+                ? ConditionEvaluationResult.disabled("quarantined as flaky, runs in the quarantinedTest task")
+                : ConditionEvaluationResult.enabled("not quarantined");
+    }
+}
@@ -0,0 +1,51 @@
+package extensions;
+
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import fixtures.RecordingProxy;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.CapabilityType;
+
+import java.nio.file.Paths;
+
+public class RecordingProxyExtension implements BeforeAllCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RecordingProxyExtension.class);
+    private static final String BYPASS_NOTHING = "<-loopback>";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        proxy(context);
+    }
+
+    /**
+     * The run's proxy when recordingProxy is on, started on first use, or {@code null} when it is off. The
+     * Selenide pool resolves it itself, so sessions are proxied whichever class happens to create the pool.
+     */
+    static RecordingProxy proxy(ExtensionContext context) {
+        TestPropertiesConfig config = Configs.get();
+        if (!config.isRecordingProxy()) {
+            return null;
+        }
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(RecordingProxy.class, key -> RecordingProxy.start(Paths.get(config.getProxyStoreDir()),
+                        config.isProxyReplayOnly(), config.getProxyBlockedUrls(), Paths.get(config.getProxyReportFile())),
+                        RecordingProxy.class);
+    }
+
+    static void routeThrough(RecordingProxy proxy, MutableCapabilities capabilities) {
+        capabilities.setCapability(CapabilityType.PROXY, new Proxy()
+                .setHttpProxy(proxy.address())
+                .setSslProxy(proxy.address())
+                .setNoProxy(BYPASS_NOTHING));
+        if (capabilities instanceof ChromiumOptions) {
+            ((ChromiumOptions<?>) capabilities).addArguments("--proxy-bypass-list=" + BYPASS_NOTHING);
+        } else if (capabilities instanceof FirefoxOptions) {
+            ((FirefoxOptions) capabilities).addPreference("network.proxy.allow_hijacking_localhost", true);
+        }
+    }
+}
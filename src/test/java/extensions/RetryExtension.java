@@ -0,0 +1,152 @@
+package extensions;
+
+import configs.Configs;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.TestAbortedException;
+import scheduling.FlakeHistory;
+
+import java.util.stream.Stream;
+
+public class RetryExtension implements TestTemplateInvocationContextProvider, TestExecutionExceptionHandler,
+        LifecycleMethodExecutionExceptionHandler, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RetryExtension.class);
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return AnnotationSupport.isAnnotated(context.getTestMethod(), RetryingTest.class);
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(HistoryWriter.class, key -> new HistoryWriter(), HistoryWriter.class);
+        Attempts attempts = new Attempts(Math.max(1, Configs.get().getRetryMaxAttempts()));
+        context.getStore(NAMESPACE).put(Attempts.class, attempts);
+        return Stream.iterate(1, attempt -> attempt + 1)
+                .limit(attempts.max)
+                .takeWhile(attempt -> attempt == 1 || attempts.failed)
+                .map(attempt -> {
+                    attempts.start(attempt);
+                    return new AttemptInvocationContext(attempts.max);
+                });
+    }
+
+    /**
+     * True from the second attempt on, so driver extensions can hand the retry a fresh context.
+     */
+    public static boolean isRetry(ExtensionContext context) {
+        Attempts attempts = context.getStore(NAMESPACE).get(Attempts.class, Attempts.class);
+        return attempts != null && attempts.current > 1;
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        throw retryOrFail(context, throwable);
+    }
+
+    @Override
+    public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        throw retryOrFail(context, throwable);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Attempts attempts = context.getStore(NAMESPACE).get(Attempts.class, Attempts.class);
+        if (attempts == null || attempts.skipped) {
+            return;
+        }
+        attempts.finish();
+        if (!attempts.failed || !attempts.hasNext()) {
+            FlakeHistory.instance().record(key(context), attempts.outcome(), attempts.lastMillis, attempts.failedMillis);
+        }
+    }
+
+    static String key(ExtensionContext context) {
+        return context.getRequiredTestClass().getName() + "#" + context.getRequiredTestMethod().getName();
+    }
+
+    private static Throwable retryOrFail(ExtensionContext context, Throwable throwable) {
+        Attempts attempts = context.getStore(NAMESPACE).get(Attempts.class, Attempts.class);
+        if (attempts == null) {
+            return throwable;
+        }
+        if (throwable instanceof TestAbortedException) {
+            attempts.skipped = true;
+            return throwable;
+        }
+        attempts.failed = true;
+        if (!attempts.hasNext()) {
+            return throwable;
+        }
+        TestAbortedException retry = new TestAbortedException(String.format("Attempt %d of %d failed, retrying: %s",
+                attempts.current, attempts.max, throwable), throwable);
+        retry.setStackTrace(throwable.getStackTrace());
+        return retry;
+    }
+
+    private static class Attempts {
+        private final int max;
+        private int current;
+        private boolean failed;
+        private boolean skipped;
+        private boolean failedBefore;
+        private long startNanos;
+        private double lastMillis;
+        private double failedMillis;
+
+        private Attempts(int max) {
+            this.max = max;
+        }
+
+        private void start(int attempt) {
+            failedBefore |= failed;
+            current = attempt;
+            failed = false;
+            skipped = false;
+            startNanos = System.nanoTime();
+        }
+
+        private void finish() {
+            lastMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+            if (failed) {
+                failedMillis += lastMillis;
+            }
+        }
+
+        private boolean hasNext() {
+            return current < max;
+        }
+
+        private FlakeHistory.Outcome outcome() {
+            if (failed) {
+                return FlakeHistory.Outcome.FAILED;
+            }
+            return failedBefore ? FlakeHistory.Outcome.FLAKY : FlakeHistory.Outcome.PASSED;
+        }
+    }
+
+    private static class AttemptInvocationContext implements TestTemplateInvocationContext {
+        private final int max;
+
+        private AttemptInvocationContext(int max) {
+            this.max = max;
+        }
+
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return "attempt " + invocationIndex + " of " + max;
+        }
+    }
+
+    private static class HistoryWriter implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            FlakeHistory.instance().save();
+        }
+    }
+}
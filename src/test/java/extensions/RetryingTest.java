@@ -0,0 +1,23 @@
+package extensions;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the test again, up to {@code retryMaxAttempts} times, only while it keeps failing. Attempts run
+ * on the class thread so each retry starts after the previous attempt has finished.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@TestTemplate
+@Execution(ExecutionMode.SAME_THREAD)
+@ExtendWith({QuarantineCondition.class, RetryExtension.class})
+public @interface RetryingTest {
+}
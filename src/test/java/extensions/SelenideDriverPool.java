@@ -0,0 +1,109 @@
+package extensions;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class SelenideDriverPool implements ExtensionContext.Store.CloseableResource {
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final String RESET_SCRIPT = "try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}";
+
+    private final Supplier<SelenideConfig> configSupplier;
+    private final List<WebDriverListener> listeners;
+    private final Consumer<WebDriver> sessionSetup;
+    private final Semaphore sessionPermits;
+    private final BlockingQueue<SelenideDriver> idle = new LinkedBlockingQueue<>();
+    private final Queue<SelenideDriver> sessions = new ConcurrentLinkedQueue<>();
+
+    public SelenideDriverPool(int maxSize, Supplier<SelenideConfig> configSupplier, List<WebDriverListener> listeners,
+                              Consumer<WebDriver> sessionSetup) {
+        this.configSupplier = configSupplier;
+        this.listeners = listeners;
+        this.sessionSetup = sessionSetup;
+        this.sessionPermits = new Semaphore(maxSize);
+    }
+
+    public SelenideDriver acquire() throws InterruptedException {
+        SelenideDriver driver = idle.poll();
+        while (driver == null) {
+            // a discarded session frees a permit without filling the idle queue, so keep re-checking both
+            if (sessionPermits.tryAcquire()) {
+                return start();
+            }
+            driver = idle.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return driver;
+    }
+
+    public void release(SelenideDriver driver) {
+        try {
+            reset(driver.getWebDriver());
+            sessionSetup.accept(driver.getWebDriver());
+            idle.add(driver);
+        } catch (WebDriverException e) {
+            discard(driver);
+        }
+    }
+
+    public void discard(SelenideDriver driver) {
+        sessions.remove(driver);
+        try {
+            driver.close();
+        } finally {
+            sessionPermits.release();
+        }
+    }
+
+    private SelenideDriver start() {
+        try {
+            SelenideDriver driver = new SelenideDriver(configSupplier.get(), listeners);
+            sessions.add(driver);
+            try {
+                sessionSetup.accept(driver.getAndCheckWebDriver());
+            } catch (RuntimeException e) {
+                sessions.remove(driver);
+                driver.close();
+                throw e;
+            }
+            return driver;
+        } catch (RuntimeException e) {
+            sessionPermits.release();
+            throw e;
+        }
+    }
+
+    private static void reset(WebDriver webDriver) {
+        String mainWindow = webDriver.getWindowHandle();
+        for (String handle : webDriver.getWindowHandles()) {
+            if (!handle.equals(mainWindow)) {
+                webDriver.switchTo().window(handle).close();
+            }
+        }
+        webDriver.switchTo().window(mainWindow);
+        webDriver.manage().deleteAllCookies();
+        ((JavascriptExecutor) webDriver).executeScript(RESET_SCRIPT);
+    }
+
+    @Override
+    public void close() {
+        SelenideDriver driver;
+        while ((driver = sessions.poll()) != null) {
+            driver.close();
+        }
+        idle.clear();
+    }
+}
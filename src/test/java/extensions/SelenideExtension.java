@@ -0,0 +1,158 @@
+package extensions;
+
+import capture.CaptureTarget;
+import capture.Captures;
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import fixtures.RecordingProxy;
+import metrics.DriverTime;
+import metrics.LocatorProfile;
+import metrics.LocatorTiming;
+import metrics.SelenideWaitListener;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class SelenideExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SelenideExtension.class);
+
+    private static volatile boolean configured;
+
+    private final TestPropertiesConfig config = Configs.get();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        configure();
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) throws InterruptedException {
+        if (!configured) {
+            configure();
+        }
+        SelenideDriver driver = pool(context).acquire();
+        context.getStore(NAMESPACE).put(SelenideDriver.class, driver);
+        WebDriver webDriver = driver.getWebDriver();
+        WebDriverRunner.setWebDriver(webDriver);
+        SelenideLogger.addListener(SelenideWaitListener.NAME, new SelenideWaitListener());
+        Captures.bind(CaptureTarget.of(() -> ((TakesScreenshot) webDriver).getScreenshotAs(OutputType.BYTES), webDriver::getPageSource));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Captures.bind(null);
+        SelenideLogger.removeListener(SelenideWaitListener.NAME);
+        SelenideDriver driver = context.getStore(NAMESPACE).remove(SelenideDriver.class, SelenideDriver.class);
+        if (driver != null) {
+            LocatorProfile.profilePending();
+            // unbind without quitting: the session goes back to the pool for another thread
+            WebDriverRunner.webdriverContainer.resetWebDriver();
+            pool(context).release(driver);
+        }
+    }
+
+    private void configure() {
+        Configuration.browser = browserName(config.getBrowser());
+        Configuration.headless = config.isHeadless();
+        Configuration.browserSize = config.getBrowserSize();
+        Configuration.browserCapabilities = browserCapabilities();
+        Configuration.remote = config.getRemote().isBlank() ? null : config.getRemote();
+        Configuration.remoteConnectionTimeout = config.getRemoteConnectionTimeout();
+        Configuration.remoteReadTimeout = config.getRemoteReadTimeout();
+        Configuration.timeout = config.getWaitTimeout();
+        Configuration.pollingInterval = config.getPollingInterval();
+        configured = true;
+    }
+
+    private SelenideDriverPool pool(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(SelenideDriverPool.class, key -> {
+                    RecordingProxy proxy = RecordingProxyExtension.proxy(context);
+                    return new SelenideDriverPool(poolSize(), () -> driverConfig(proxy), listeners(), sessionSetup());
+                }, SelenideDriverPool.class);
+    }
+
+    private List<WebDriverListener> listeners() {
+        if (config.isLocatorProfiling() || config.isLocatorRewrite()) {
+            return List.of(new DriverTime(), new LocatorTiming());
+        }
+        return List.of(new DriverTime());
+    }
+
+    private Consumer<WebDriver> sessionSetup() {
+        if (!config.isStorageSnapshot()) {
+            return webDriver -> {
+            };
+        }
+        return new SelenideStorageSnapshot(Paths.get(config.getStorageStateDir(), "selenide.json"))::apply;
+    }
+
+    private int poolSize() {
+        return config.getSelenidePoolSize() > 0 ? config.getSelenidePoolSize() : Runtime.getRuntime().availableProcessors();
+    }
+
+    private SelenideConfig driverConfig(RecordingProxy proxy) {
+        MutableCapabilities capabilities = browserCapabilities();
+        if (proxy != null) {
+            RecordingProxyExtension.routeThrough(proxy, capabilities);
+        }
+        return new SelenideConfig()
+                .browser(Configuration.browser)
+                .headless(Configuration.headless)
+                .browserSize(Configuration.browserSize)
+                .browserCapabilities(capabilities)
+                .remote(Configuration.remote)
+                .remoteConnectionTimeout(Configuration.remoteConnectionTimeout)
+                .remoteReadTimeout(Configuration.remoteReadTimeout)
+                .timeout(Configuration.timeout)
+                .pollingInterval(Configuration.pollingInterval);
+    }
+
+    private MutableCapabilities browserCapabilities() {
+        List<String> args = config.getLaunchArgs().stream()
+                .filter(arg -> !arg.isBlank())
+                .collect(Collectors.toList());
+        switch (Configuration.browser) {
+            case "chrome":
+                return new ChromeOptions().addArguments(args);
+            case "edge":
+                return new EdgeOptions().addArguments(args);
+            case "firefox":
+                return new FirefoxOptions().addArguments(args);
+            default:
+                return new MutableCapabilities();
+        }
+    }
+
+    public static String browserName(String browser) {
+        switch (browser) {
+            case "chromium":
+                return "chrome";
+            case "webkit":
+                return "safari";
+            case "msedge":
+                return "edge";
+            default:
+                return browser;
+        }
+    }
+}
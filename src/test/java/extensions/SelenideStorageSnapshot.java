@@ -0,0 +1,76 @@
+package extensions;
+
+import com.codeborne.selenide.WebDriverRunner;
+import metrics.JsonReports;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import pages.selenide.HomePage;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class SelenideStorageSnapshot {
+    private static final String READ_LOCAL_STORAGE = "return Object.assign({}, localStorage);";
+    private static final String WRITE_LOCAL_STORAGE = "for (const [key, value] of Object.entries(arguments[0])) {" +
+            " localStorage.setItem(key, value);" +
+            " }";
+
+    private final Path file;
+    private String url;
+    private Set<Cookie> cookies;
+    private Map<String, String> localStorage;
+
+    public SelenideStorageSnapshot(Path file) {
+        this.file = file;
+    }
+
+    public synchronized void apply(WebDriver webDriver) {
+        if (url == null) {
+            capture(webDriver);
+            return;
+        }
+        if (cookies.isEmpty() && localStorage.isEmpty()) {
+            // nothing to restore, and getting back to the origin would cost a navigation per session
+            return;
+        }
+        if (!sameOrigin(webDriver.getCurrentUrl(), url)) {
+            webDriver.get(url);
+        }
+        cookies.forEach(webDriver.manage()::addCookie);
+        ((JavascriptExecutor) webDriver).executeScript(WRITE_LOCAL_STORAGE, localStorage);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void capture(WebDriver webDriver) {
+        WebDriverRunner.setWebDriver(webDriver);
+        HomePage homePage = new HomePage();
+        homePage.open();
+        homePage.openWebForm();
+
+        url = webDriver.getCurrentUrl();
+        cookies = webDriver.manage().getCookies();
+        localStorage = (Map<String, String>) ((JavascriptExecutor) webDriver).executeScript(READ_LOCAL_STORAGE);
+
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("url", url);
+        state.put("cookies", cookies.stream().map(Cookie::toJson).collect(Collectors.toList()));
+        state.put("localStorage", localStorage);
+        JsonReports.write(file, state);
+    }
+
+    private static boolean sameOrigin(String first, String second) {
+        try {
+            URI a = URI.create(first);
+            URI b = URI.create(second);
+            return a.getScheme() != null && a.getScheme().equals(b.getScheme())
+                    && a.getHost() != null && a.getHost().equals(b.getHost()) && a.getPort() == b.getPort();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
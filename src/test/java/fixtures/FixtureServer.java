@@ -0,0 +1,128 @@
+package fixtures;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import configs.Configs;
+import configs.TestPropertiesConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class FixtureServer {
+    private static final String RESOURCE_ROOT = "web";
+    private static final String INDEX_PAGE = "index.html";
+    private static final byte[] NOT_FOUND = new byte[0];
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "ico", "image/x-icon");
+
+    private static FixtureServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String baseUrl;
+    private final SubmissionSink sink;
+    private final Map<String, byte[]> resources = new ConcurrentHashMap<>();
+
+    private FixtureServer(String host, int port, Path submissionDir) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        this.baseUrl = "http://" + host + ":" + server.getAddress().getPort() + "/";
+        this.sink = new SubmissionSink(baseUrl, submissionDir);
+        server.createContext("/" + SubmissionSink.PATH, sink::handle);
+    }
+
+    public static synchronized FixtureServer start() {
+        if (instance == null) {
+            TestPropertiesConfig config = Configs.get();
+            try {
+                instance = new FixtureServer(config.getFixtureHost(), config.getFixturePort(), Path.of(config.getSubmissionDir()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start fixture server", e);
+            }
+        }
+        return instance;
+    }
+
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance.executor.shutdownNow();
+            instance.sink.close();
+            instance = null;
+        }
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public SubmissionSink sink() {
+        return sink;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            String resource = path.endsWith("/") ? path.substring(1) + INDEX_PAGE : path.substring(1);
+            byte[] body = resources.computeIfAbsent(resource, this::load);
+            if (body == NOT_FOUND) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", contentType(resource));
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private byte[] load(String resource) {
+        if (resource.contains("..")) {
+            return NOT_FOUND;
+        }
+        try (InputStream in = FixtureServer.class.getClassLoader().getResourceAsStream(RESOURCE_ROOT + "/" + resource)) {
+            return in == null ? NOT_FOUND : in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String contentType(String resource) {
+        String extension = resource.substring(resource.lastIndexOf('.') + 1);
+        return Optional.ofNullable(CONTENT_TYPES.get(extension)).orElse("application/octet-stream");
+    }
+}
@@ -0,0 +1,22 @@
+package fixtures;
+
+import configs.Configs;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+public class FixtureServerListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        FixtureServer server = FixtureServer.start();
+        if (System.getProperty("baseUrl") == null) {
+            System.setProperty("baseUrl", server.baseUrl());
+            Configs.reload();
+        }
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        FixtureServer.stop();
+    }
+}
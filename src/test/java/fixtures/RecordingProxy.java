@@ -0,0 +1,320 @@
+package fixtures;
+
+import metrics.JsonReports;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public final class RecordingProxy implements ExtensionContext.Store.CloseableResource {
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "keep-alive", "proxy-authorization", "proxy-connection", "te", "trailer", "transfer-encoding", "upgrade");
+    private static final String META_SUFFIX = ".meta";
+    private static final String BODY_SUFFIX = ".body";
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+    private final HttpClient client;
+    private final Path storeDir;
+    private final boolean replayOnly;
+    private final List<Pattern> blockedUrls;
+    private final Path reportFile;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong passedThrough = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+
+    private RecordingProxy(Path storeDir, boolean replayOnly, List<String> blockedUrls, Path reportFile) throws IOException {
+        this.storeDir = Files.createDirectories(storeDir);
+        this.replayOnly = replayOnly;
+        this.reportFile = reportFile;
+        this.blockedUrls = blockedUrls.stream()
+                .filter(pattern -> !pattern.isBlank())
+                .map(Pattern::compile)
+                .collect(Collectors.toList());
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "recording-proxy");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        executor.submit(this::acceptLoop);
+    }
+
+    public static RecordingProxy start(Path storeDir, boolean replayOnly, List<String> blockedUrls, Path reportFile) {
+        try {
+            return new RecordingProxy(storeDir, replayOnly, blockedUrls, reportFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start recording proxy", e);
+        }
+    }
+
+    public String address() {
+        return serverSocket.getInetAddress().getHostAddress() + ":" + serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("replayed", hits.get());
+        report.put("recordedOrMissed", misses.get());
+        report.put("passedThrough", passedThrough.get());
+        report.put("blocked", blocked.get());
+        JsonReports.write(reportFile, report);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.submit(() -> handle(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Recording proxy stopped accepting connections: " + e.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            String requestLine = readLine(in);
+            if (requestLine == null || requestLine.isEmpty()) {
+                return;
+            }
+            String[] parts = requestLine.split(" ");
+            if (parts.length != 3) {
+                writeHead(out, 400, Map.of(), 0);
+                return;
+            }
+            String method = parts[0];
+            String target = parts[1];
+            Map<String, String> headers = readHeaders(in);
+
+            if (isBlocked(target)) {
+                blocked.incrementAndGet();
+                writeHead(out, 403, Map.of(), 0);
+                return;
+            }
+            try {
+                dispatch(method, target, headers, in, out);
+            } catch (IllegalArgumentException e) {
+                // relative or malformed target, bad port or Content-Length
+                writeHead(out, 400, Map.of(), 0);
+            }
+        } catch (IOException e) {
+            // the browser gave up on the connection, nothing left to answer
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(String method, String target, Map<String, String> headers, InputStream in, OutputStream out)
+            throws IOException, InterruptedException {
+        switch (method) {
+            case "CONNECT":
+                tunnel(target, in, out);
+                break;
+            case "GET":
+                serveGet(target, headers, out);
+                break;
+            default:
+                byte[] body = in.readNBytes(Integer.parseInt(headers.getOrDefault("Content-Length", "0")));
+                passedThrough.incrementAndGet();
+                writeResponse(out, fetch(method, target, headers, body));
+                break;
+        }
+    }
+
+    private void serveGet(String target, Map<String, String> headers, OutputStream out) throws IOException, InterruptedException {
+        Path meta = storeDir.resolve(key(target) + META_SUFFIX);
+        Path body = storeDir.resolve(key(target) + BODY_SUFFIX);
+        if (Files.exists(meta)) {
+            hits.incrementAndGet();
+            replay(meta, body, out);
+            return;
+        }
+
+        misses.incrementAndGet();
+        if (replayOnly) {
+            writeHead(out, 504, Map.of(), 0);
+            return;
+        }
+        HttpResponse<byte[]> response = fetch("GET", target, headers, new byte[0]);
+        if (response.statusCode() == 200) {
+            record(response, meta, body);
+        }
+        writeResponse(out, response);
+    }
+
+    private HttpResponse<byte[]> fetch(String method, String target, Map<String, String> headers, byte[] body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target))
+                .method(method, body.length == 0 ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(body));
+        headers.forEach((name, value) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                request.header(name, value);
+            }
+        });
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private void record(HttpResponse<byte[]> response, Path meta, Path body) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.valueOf(response.statusCode()));
+        response.headers().map().forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                values.forEach(value -> lines.add(name + ": " + value));
+            }
+        });
+
+        Path bodyTemp = Files.createTempFile(storeDir, "body", ".tmp");
+        Files.write(bodyTemp, response.body());
+        Files.move(bodyTemp, body, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Path metaTemp = Files.createTempFile(storeDir, "meta", ".tmp");
+        Files.write(metaTemp, lines, StandardCharsets.ISO_8859_1);
+        Files.move(metaTemp, meta, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void replay(Path meta, Path body, OutputStream out) throws IOException {
+        List<String> lines = Files.readAllLines(meta, StandardCharsets.ISO_8859_1);
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String line : lines.subList(1, lines.size())) {
+            int colon = line.indexOf(':');
+            headers.merge(line.substring(0, colon), line.substring(colon + 1).trim(), (first, second) -> first + ", " + second);
+        }
+
+        try (FileChannel channel = FileChannel.open(body)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            writeHead(out, Integer.parseInt(lines.get(0)), headers, buffer.remaining());
+            WritableByteChannel target = Channels.newChannel(out);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            out.flush();
+        }
+    }
+
+    private void tunnel(String target, InputStream in, OutputStream out) throws IOException {
+        int colon = target.lastIndexOf(':');
+        if (colon <= 0) {
+            throw new IllegalArgumentException("CONNECT target without a port: " + target);
+        }
+        try (Socket upstream = new Socket(target.substring(0, colon), Integer.parseInt(target.substring(colon + 1)))) {
+            passedThrough.incrementAndGet();
+            out.write("HTTP/1.1 200 Connection Established\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+            executor.submit(() -> {
+                try {
+                    in.transferTo(upstream.getOutputStream());
+                    upstream.shutdownOutput();
+                } catch (IOException e) {
+                    // either side closed the tunnel
+                }
+            });
+            upstream.getInputStream().transferTo(out);
+        }
+    }
+
+    private void writeResponse(OutputStream out, HttpResponse<byte[]> response) throws IOException {
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        response.headers().map().forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase()) && !name.startsWith(":")) {
+                headers.put(name, String.join(", ", values));
+            }
+        });
+        writeHead(out, response.statusCode(), headers, response.body().length);
+        out.write(response.body());
+        out.flush();
+    }
+
+    private static void writeHead(OutputStream out, int status, Map<String, String> headers, long contentLength) throws IOException {
+        StringBuilder head = new StringBuilder("HTTP/1.1 ").append(status).append(" \r\n");
+        headers.forEach((name, value) -> head.append(name).append(": ").append(value).append("\r\n"));
+        head.append("Content-Length: ").append(contentLength).append("\r\n")
+                .append("Connection: close\r\n\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+    }
+
+    private boolean isBlocked(String target) {
+        return blockedUrls.stream().anyMatch(pattern -> pattern.matcher(target).find());
+    }
+
+    private static Map<String, String> readHeaders(InputStream in) throws IOException {
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        String line;
+        while ((line = readLine(in)) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int next;
+        while ((next = in.read()) != -1 && next != '\n') {
+            if (next != '\r') {
+                line.write(next);
+            }
+        }
+        return next == -1 && line.size() == 0 ? null : line.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String key(String url) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
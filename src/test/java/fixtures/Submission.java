@@ -0,0 +1,20 @@
+package fixtures;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public record Submission(String correlationId, String method, Map<String, List<String>> fields, Map<String, UploadedFile> files) {
+
+    public String field(String name) {
+        List<String> values = fields.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    public UploadedFile file(String name) {
+        return files.get(name);
+    }
+
+    public record UploadedFile(String fileName, String contentType, Path path, long size) {
+    }
+}
@@ -0,0 +1,223 @@
+package fixtures;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SubmissionSink {
+    public static final String PATH = "submit";
+    public static final String CORRELATION_FIELD = "_submission";
+
+    private static final Pattern BOUNDARY = Pattern.compile("boundary=\"?([^\";]+)\"?");
+    private static final Pattern DISPOSITION_PARAM = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+
+    private final String url;
+    private final Path uploadDir;
+    private final ConcurrentMap<String, CompletableFuture<Submission>> byCorrelationId = new ConcurrentHashMap<>();
+    private final Queue<Path> uploads = new ConcurrentLinkedQueue<>();
+
+    SubmissionSink(String baseUrl, Path uploadDir) {
+        this.url = baseUrl + PATH;
+        this.uploadDir = uploadDir;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public Submission await(String correlationId, Duration timeout) {
+        try {
+            return pending(correlationId).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new AssertionError("No submission " + correlationId + " arrived within " + timeout.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            byCorrelationId.remove(correlationId);
+        }
+    }
+
+    void close() {
+        byCorrelationId.clear();
+        Path upload;
+        while ((upload = uploads.poll()) != null) {
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                System.err.println("Could not delete upload " + upload + ": " + e.getMessage());
+            }
+        }
+    }
+
+    void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            Map<String, List<String>> fields = new LinkedHashMap<>();
+            Map<String, Submission.UploadedFile> files = new LinkedHashMap<>();
+            parseUrlEncoded(exchange.getRequestURI().getRawQuery(), fields);
+
+            if ("POST".equals(method)) {
+                String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                if (contentType != null && contentType.startsWith("multipart/form-data")) {
+                    readMultipart(exchange.getRequestBody(), boundary(contentType), fields, files);
+                } else {
+                    parseUrlEncoded(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8), fields);
+                }
+            } else if (!"GET".equals(method)) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            List<String> correlation = fields.remove(CORRELATION_FIELD);
+            String correlationId = correlation == null || correlation.isEmpty() ? null : correlation.get(0);
+            Submission submission = new Submission(correlationId, method, Map.copyOf(fields), Map.copyOf(files));
+            if (correlationId != null) {
+                pending(correlationId).complete(submission);
+            }
+            exchange.sendResponseHeaders(204, -1);
+        }
+    }
+
+    private CompletableFuture<Submission> pending(String correlationId) {
+        return byCorrelationId.computeIfAbsent(correlationId, key -> new CompletableFuture<>());
+    }
+
+    private void readMultipart(InputStream body, String boundary, Map<String, List<String>> fields,
+                               Map<String, Submission.UploadedFile> files) throws IOException {
+        InputStream in = new BufferedInputStream(body, 64 * 1024);
+        byte[] delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        String line;
+        while ((line = readLine(in)) != null && !line.equals("--" + boundary)) {
+            // preamble
+        }
+
+        while (line != null) {
+            Map<String, String> headers = new LinkedHashMap<>();
+            while ((line = readLine(in)) != null && !line.isEmpty()) {
+                int colon = line.indexOf(':');
+                headers.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+            }
+            Map<String, String> disposition = dispositionParams(headers.getOrDefault("content-disposition", ""));
+            String name = disposition.get("name");
+            String fileName = disposition.get("filename");
+
+            if (fileName != null) {
+                Path target = Files.createTempFile(Files.createDirectories(uploadDir), "upload-", ".part");
+                uploads.add(target);
+                long size;
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target), 64 * 1024)) {
+                    size = copyUntil(in, delimiter, out);
+                }
+                if (!fileName.isEmpty()) {
+                    files.put(name, new Submission.UploadedFile(fileName, headers.get("content-type"), target, size));
+                } else {
+                    Files.deleteIfExists(target);
+                }
+            } else {
+                ByteArrayOutputStream value = new ByteArrayOutputStream();
+                copyUntil(in, delimiter, value);
+                fields.computeIfAbsent(name, key -> new ArrayList<>()).add(value.toString(StandardCharsets.UTF_8));
+            }
+
+            line = readLine(in);
+            if (line == null || line.startsWith("--")) {
+                return;
+            }
+        }
+    }
+
+    private static long copyUntil(InputStream in, byte[] delimiter, OutputStream out) throws IOException {
+        long written = 0;
+        int matched = 0;
+        int next;
+        while ((next = in.read()) != -1) {
+            if (next == delimiter[matched]) {
+                matched++;
+                if (matched == delimiter.length) {
+                    return written;
+                }
+                continue;
+            }
+            if (matched > 0) {
+                out.write(delimiter, 0, matched);
+                written += matched;
+                matched = 0;
+            }
+            if (next == delimiter[0]) {
+                matched = 1;
+            } else {
+                out.write(next);
+                written++;
+            }
+        }
+        throw new IOException("Multipart body ended before the closing boundary");
+    }
+
+    private static String boundary(String contentType) {
+        Matcher matcher = BOUNDARY.matcher(contentType);
+        if (!matcher.find()) {
+            throw new UncheckedIOException(new IOException("No boundary in " + contentType));
+        }
+        return matcher.group(1);
+    }
+
+    private static Map<String, String> dispositionParams(String disposition) {
+        Map<String, String> params = new LinkedHashMap<>();
+        Matcher matcher = DISPOSITION_PARAM.matcher(disposition);
+        while (matcher.find()) {
+            params.put(matcher.group(1), matcher.group(2));
+        }
+        return params;
+    }
+
+    private static void parseUrlEncoded(String encoded, Map<String, List<String>> fields) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String pair : encoded.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8);
+            String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            fields.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int next;
+        while ((next = in.read()) != -1 && next != '\n') {
+            if (next != '\r') {
+                line.write(next);
+            }
+        }
+        return next == -1 && line.size() == 0 ? null : line.toString(StandardCharsets.UTF_8);
+    }
+}
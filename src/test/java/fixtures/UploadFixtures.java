@@ -0,0 +1,75 @@
+package fixtures;
+
+import configs.Configs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class UploadFixtures {
+    private static final String BANNER_IMAGE = "STE In Banner.jpg";
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final Map<Long, Path> LARGE_FILES = new ConcurrentHashMap<>();
+
+    private UploadFixtures() {
+    }
+
+    public static Path bannerImage() {
+        URL resource = UploadFixtures.class.getClassLoader().getResource(BANNER_IMAGE);
+        if (resource == null) {
+            throw new IllegalStateException(BANNER_IMAGE + " is not on the test classpath");
+        }
+        try {
+            return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static Path largeFile(long megabytes) {
+        return LARGE_FILES.computeIfAbsent(megabytes, UploadFixtures::generate);
+    }
+
+    private static Path generate(long megabytes) {
+        long size = megabytes * CHUNK_SIZE;
+        try {
+            Path dir = Files.createDirectories(fixtureDir());
+            Path file = dir.resolve("upload-" + megabytes + "mb.bin");
+            if (Files.isRegularFile(file) && Files.size(file) == size) {
+                return file;
+            }
+
+            Path temp = Files.createTempFile(dir, "upload-", ".tmp");
+            ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                chunk.put((byte) ('a' + i % 26));
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (long written = 0; written < size; written += CHUNK_SIZE) {
+                    chunk.clear();
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                }
+            }
+            return Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not generate a " + megabytes + " MB upload fixture", e);
+        }
+    }
+
+    private static Path fixtureDir() {
+        String dir = Configs.get().getUploadFixtureDir();
+        return dir.isBlank() ? Paths.get(System.getProperty("java.io.tmpdir"), "upload-fixtures") : Paths.get(dir);
+    }
+}
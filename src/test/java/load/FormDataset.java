@@ -0,0 +1,106 @@
+package load;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public final class FormDataset {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {
+    };
+
+    private FormDataset() {
+    }
+
+    public static Stream<Map<String, Object>> stream(Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        Stream<Map<String, Object>> rows;
+        try {
+            rows = file.getFileName().toString().endsWith(".csv") ? csvRows(reader) : jsonRows(reader);
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+        return rows.onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static Stream<Map<String, Object>> jsonRows(BufferedReader reader) {
+        return reader.lines()
+                .filter(line -> !line.isBlank())
+                .map(FormDataset::parseJson);
+    }
+
+    private static Stream<Map<String, Object>> csvRows(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            return Stream.empty();
+        }
+        List<String> columns = parseCsvLine(header);
+        return reader.lines()
+                .filter(line -> !line.isBlank())
+                .map(line -> toRow(columns, parseCsvLine(line)));
+    }
+
+    private static Map<String, Object> parseJson(String line) {
+        try {
+            return MAPPER.readValue(line, ROW_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed dataset row: " + line, e);
+        }
+    }
+
+    private static Map<String, Object> toRow(List<String> columns, List<String> values) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size() && i < values.size(); i++) {
+            if (!values.get(i).isEmpty()) {
+                row.put(columns.get(i), values.get(i));
+            }
+        }
+        return row;
+    }
+
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
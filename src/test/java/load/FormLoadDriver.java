@@ -0,0 +1,245 @@
+package load;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import configs.TestPropertiesConfig;
+import metrics.JsonReports;
+import metrics.LatencyHistogram;
+import pages.playwright.WebFormPage;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+public class FormLoadDriver {
+    private static final Map<String, Object> END_OF_DATA = new HashMap<>();
+    private static final String SUBMITTED_PAGE = "**/submitted-form.html*";
+    private static final long OFFER_TIMEOUT_SECONDS = 1;
+    private static final int MAX_CAUSE_LENGTH = 200;
+
+    private final TestPropertiesConfig config;
+    private final String webFormUrl;
+    private final Map<String, LatencyHistogram> steps = new LinkedHashMap<>();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    public FormLoadDriver(TestPropertiesConfig config) {
+        this.config = config;
+        this.webFormUrl = config.getBaseUrl() + "web-form.html";
+        for (String step : new String[]{"navigate", "fill", "submit", "total"}) {
+            steps.put(step, new LatencyHistogram());
+        }
+    }
+
+    public Result run(Stream<Map<String, Object>> rows) throws InterruptedException {
+        int workers = config.getLoadWorkers();
+        BlockingQueue<Map<String, Object>> queue = new ArrayBlockingQueue<>(workers * 2);
+        AtomicInteger liveWorkers = new AtomicInteger(workers);
+        SharedBrowsers browsers = new SharedBrowsers(config);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        long start = System.nanoTime();
+        long submitted = 0;
+        try (browsers) {
+            try {
+                for (int i = 0; i < workers; i++) {
+                    int worker = i;
+                    executor.submit(() -> consume(worker, queue, browsers, liveWorkers));
+                }
+                submitted = produce(rows.iterator(), queue, liveWorkers);
+            } finally {
+                for (int i = 0; i < workers; i++) {
+                    if (!offer(queue, END_OF_DATA, liveWorkers)) {
+                        break;
+                    }
+                }
+                executor.shutdown();
+                executor.awaitTermination(1, TimeUnit.HOURS);
+            }
+        }
+
+        Result result = new Result(submitted, completed.sum(), failed.sum(),
+                (System.nanoTime() - start) / 1_000_000_000.0, steps, failureCounts());
+        result.print();
+        result.write(Path.of(config.getLoadReportFile()));
+        return result;
+    }
+
+    private long produce(Iterator<Map<String, Object>> rows, BlockingQueue<Map<String, Object>> queue,
+                         AtomicInteger liveWorkers) throws InterruptedException {
+        long maxRows = config.getLoadMaxRows();
+        long interval = config.getLoadRate() > 0 ? (long) (1_000_000_000L / config.getLoadRate()) : 0;
+        long next = System.nanoTime();
+        long count = 0;
+        while (rows.hasNext() && (maxRows <= 0 || count < maxRows)) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            next += interval;
+            if (!offer(queue, rows.next(), liveWorkers)) {
+                throw new IllegalStateException("All load workers stopped after " + count + " rows, failures: "
+                        + failureCounts());
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private static boolean offer(BlockingQueue<Map<String, Object>> queue, Map<String, Object> row,
+                                 AtomicInteger liveWorkers) throws InterruptedException {
+        while (!queue.offer(row, OFFER_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            if (liveWorkers.get() == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void consume(int worker, BlockingQueue<Map<String, Object>> queue, SharedBrowsers browsers,
+                         AtomicInteger liveWorkers) {
+        Playwright playwright = null;
+        Browser browser = null;
+        try {
+            Map<String, Object> row;
+            while ((row = queue.take()) != END_OF_DATA) {
+                try {
+                    if (browser == null || !browser.isConnected()) {
+                        if (playwright == null) {
+                            playwright = Playwright.create();
+                        }
+                        browser = browsers.connect(playwright, worker);
+                    }
+                    submit(browser, row);
+                } catch (RuntimeException e) {
+                    recordFailure(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            liveWorkers.decrementAndGet();
+            if (playwright != null) {
+                playwright.close();
+            }
+        }
+    }
+
+    private void submit(Browser browser, Map<String, Object> row) {
+        long start = System.nanoTime();
+        try (BrowserContext context = browser.newContext()) {
+            Page page = context.newPage();
+
+            long stepStart = System.nanoTime();
+            page.navigate(webFormUrl);
+            stepStart = record("navigate", stepStart);
+
+            WebFormPage webFormPage = new WebFormPage(page);
+            webFormPage.fillForm(row);
+            stepStart = record("fill", stepStart);
+
+            webFormPage.submit();
+            page.waitForURL(SUBMITTED_PAGE);
+            record("submit", stepStart);
+
+            record("total", start);
+            completed.increment();
+        }
+    }
+
+    private void recordFailure(RuntimeException e) {
+        failed.increment();
+        String message = e.getMessage() == null ? "" : e.getMessage().lines().findFirst().orElse("");
+        if (message.length() > MAX_CAUSE_LENGTH) {
+            message = message.substring(0, MAX_CAUSE_LENGTH) + "...";
+        }
+        failures.computeIfAbsent(e.getClass().getSimpleName() + ": " + message, cause -> new LongAdder())
+                .increment();
+    }
+
+    private Map<String, Long> failureCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        failures.forEach((cause, count) -> counts.put(cause, count.sum()));
+        return counts;
+    }
+
+    private long record(String step, long stepStart) {
+        long now = System.nanoTime();
+        steps.get(step).record(now - stepStart);
+        return now;
+    }
+
+    public static class Result {
+        private final long submitted;
+        private final long completed;
+        private final long failed;
+        private final double elapsedSeconds;
+        private final Map<String, LatencyHistogram> steps;
+        private final Map<String, Long> failures;
+
+        private Result(long submitted, long completed, long failed, double elapsedSeconds,
+                       Map<String, LatencyHistogram> steps, Map<String, Long> failures) {
+            this.submitted = submitted;
+            this.completed = completed;
+            this.failed = failed;
+            this.elapsedSeconds = elapsedSeconds;
+            this.steps = steps;
+            this.failures = failures;
+        }
+
+        public long completed() {
+            return completed;
+        }
+
+        public long failed() {
+            return failed;
+        }
+
+        /** Failed rows keyed by exception class and the first line of its message. */
+        public Map<String, Long> failures() {
+            return failures;
+        }
+
+        public double throughput() {
+            return elapsedSeconds == 0 ? 0 : completed / elapsedSeconds;
+        }
+
+        private void print() {
+            System.out.printf("Load run: %d rows, %d completed, %d failed in %.1f s (%.1f submissions/s)%n",
+                    submitted, completed, failed, elapsedSeconds, throughput());
+            steps.forEach((step, histogram) -> System.out.printf("  %-8s p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                    step, histogram.percentileMillis(50), histogram.percentileMillis(90),
+                    histogram.percentileMillis(99), histogram.maxMillis()));
+            failures.forEach((cause, count) -> System.out.printf("  failed %d x %s%n", count, cause));
+        }
+
+        private void write(Path file) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("submitted", submitted);
+            report.put("completed", completed);
+            report.put("failed", failed);
+            report.put("elapsedSeconds", elapsedSeconds);
+            report.put("throughputPerSecond", throughput());
+            Map<String, Object> stepSummaries = new LinkedHashMap<>();
+            steps.forEach((step, histogram) -> stepSummaries.put(step, histogram.summary()));
+            report.put("steps", stepSummaries);
+            report.put("failures", failures);
+            JsonReports.write(file, report);
+        }
+    }
+}
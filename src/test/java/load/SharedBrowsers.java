@@ -0,0 +1,70 @@
+package load;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import configs.TestPropertiesConfig;
+import extensions.PlaywrightBrowserPool;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A small, fixed set of Chromium processes that every load worker opens its contexts on. Playwright objects
+ * are confined to the thread that created them, so the browsers are launched here with a remote debugging
+ * port and each worker attaches over CDP from its own Playwright instance. Other engines have no CDP
+ * endpoint, so their workers fall back to launching a browser of their own.
+ */
+class SharedBrowsers implements AutoCloseable {
+    private final TestPropertiesConfig config;
+    private final Playwright host;
+    private final List<String> endpoints = new ArrayList<>();
+
+    SharedBrowsers(TestPropertiesConfig config) {
+        this.config = config;
+        if (!PlaywrightBrowserPool.isChromium(config) || config.getLoadBrowsers() <= 0) {
+            this.host = null;
+            return;
+        }
+        this.host = Playwright.create();
+        try {
+            for (int i = 0; i < config.getLoadBrowsers(); i++) {
+                int port = freePort();
+                PlaywrightBrowserPool.launch(host, config, List.of("--remote-debugging-port=" + port));
+                endpoints.add("http://127.0.0.1:" + port);
+            }
+        } catch (RuntimeException e) {
+            host.close();
+            throw e;
+        }
+    }
+
+    /** Opens the shared browser for {@code worker} on the given thread-confined Playwright instance. */
+    Browser connect(Playwright playwright, int worker) {
+        if (endpoints.isEmpty()) {
+            return PlaywrightBrowserPool.launch(playwright, config, List.of());
+        }
+        return playwright.chromium().connectOverCDP(endpoints.get(worker % endpoints.size()));
+    }
+
+    int size() {
+        return endpoints.size();
+    }
+
+    @Override
+    public void close() {
+        if (host != null) {
+            host.close();
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
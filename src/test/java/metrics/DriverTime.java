@@ -0,0 +1,44 @@
+package metrics;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public class DriverTime implements WebDriverListener {
+    private static final ThreadLocal<long[]> TOTAL = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<long[]> CALL = ThreadLocal.withInitial(() -> new long[2]);
+
+    public static long totalNanos() {
+        return TOTAL.get()[0];
+    }
+
+    public static void add(long nanos) {
+        TOTAL.get()[0] += nanos;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        long[] call = CALL.get();
+        if (call[1]++ == 0) {
+            call[0] = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finishCall();
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finishCall();
+    }
+
+    private static void finishCall() {
+        long[] call = CALL.get();
+        if (call[1] > 0 && --call[1] == 0) {
+            add(System.nanoTime() - call[0]);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class JsonReports {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private JsonReports() {
+    }
+
+    public static void write(Path file, Object report) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            MAPPER.writeValue(file.toFile(), report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write report to " + file, e);
+        }
+    }
+}
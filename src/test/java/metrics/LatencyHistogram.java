@@ -0,0 +1,122 @@
+package metrics;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_OCTAVE = 40;
+    private static final int BUCKETS = (MAX_OCTAVE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        buckets.incrementAndGet(bucket(micros));
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public double meanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalMicros.sum() / 1000.0 / n;
+    }
+
+    public double totalMillis() {
+        return totalMicros.sum() / 1000.0;
+    }
+
+    public double maxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    public double percentileMillis(double percentile) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100 * n);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundMicros(i), maxMicros.get()) / 1000.0;
+            }
+        }
+        return maxMillis();
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count());
+        summary.put("totalMs", totalMillis());
+        summary.put("meanMs", meanMillis());
+        summary.put("p50Ms", percentileMillis(50));
+        summary.put("p90Ms", percentileMillis(90));
+        summary.put("p99Ms", percentileMillis(99));
+        summary.put("maxMs", maxMillis());
+
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucketCount = buckets.get(i);
+            if (bucketCount > 0) {
+                histogram.put("<=" + upperBoundMicros(i) + "us", bucketCount);
+            }
+        }
+        summary.put("histogram", histogram);
+        return summary;
+    }
+
+    /**
+     * Rebuilds a histogram from summaries written by {@link #summary()}, e.g. one per shard. Bucket
+     * counts, totals and maxima merge exactly, so the merged percentiles match a single-process run.
+     */
+    public static LatencyHistogram merge(Collection<Map<String, Object>> summaries) {
+        LatencyHistogram merged = new LatencyHistogram();
+        for (Map<String, Object> summary : summaries) {
+            merged.count.add(((Number) summary.get("count")).longValue());
+            merged.totalMicros.add(Math.round(((Number) summary.get("totalMs")).doubleValue() * 1000));
+            merged.maxMicros.accumulateAndGet(Math.round(((Number) summary.get("maxMs")).doubleValue() * 1000), Math::max);
+            Map<?, ?> histogram = (Map<?, ?>) summary.get("histogram");
+            histogram.forEach((label, bucketCount) -> {
+                String bound = label.toString();
+                long upperBound = Long.parseLong(bound.substring(2, bound.length() - 2));
+                merged.buckets.addAndGet(bucket(upperBound), ((Number) bucketCount).longValue());
+            });
+        }
+        return merged;
+    }
+
+    private static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int octave = Math.min(MAX_OCTAVE, 63 - Long.numberOfLeadingZeros(micros));
+        int shift = octave - SUB_BUCKET_BITS;
+        int subBucket = (int) Math.min(SUB_BUCKETS - 1, (micros >>> shift) - SUB_BUCKETS);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundMicros(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
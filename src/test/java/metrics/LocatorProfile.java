@@ -0,0 +1,232 @@
+package metrics;
+
+import configs.Configs;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Locator resolutions grouped by framework, page object and selector. Each document-level selector is
+ * also timed inside the browser once, next to its CSS translation when it is an XPath; the translation
+ * becomes a rewrite only if it matched the very same nodes and was not slower. In-browser profiling is
+ * queued per thread and run by the driver extensions after the test body, outside every timed window.
+ */
+public final class LocatorProfile {
+    private static final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, SelectorStats>>> STATS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, String> REWRITES = new ConcurrentHashMap<>();
+    private static final String UNKNOWN_OWNER = "unknown";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final int MAX_PROFILE_ATTEMPTS = 3;
+    private static final ThreadLocal<Map<SelectorStats, Runnable>> PENDING = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    private LocatorProfile() {
+    }
+
+    public static SelectorStats selector(String framework, String owner, String strategy, String selector) {
+        return STATS.computeIfAbsent(framework, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(owner, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(strategy + ": " + selector, key -> new SelectorStats(strategy, selector));
+    }
+
+    /** Runs the profiles queued by this thread's lookups, against the page the test left open. */
+    public static void profilePending() {
+        Map<SelectorStats, Runnable> pending = PENDING.get();
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Runnable> profiles = new ArrayList<>(pending.values());
+        pending.clear();
+        profiles.forEach(Runnable::run);
+    }
+
+    public static Optional<String> rewrite(String xpath) {
+        return Optional.ofNullable(REWRITES.get(xpath));
+    }
+
+    /**
+     * The first page object or test class on the current stack, i.e. whoever asked for the element.
+     */
+    public static String owner() {
+        return STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getClassName)
+                .filter(className -> className.startsWith("pages.") || className.startsWith("ui."))
+                .findFirst()
+                .orElse(UNKNOWN_OWNER));
+    }
+
+    public static void writeReport(Path file) {
+        Map<String, Map<String, List<Map<String, Object>>>> report = new TreeMap<>();
+        STATS.forEach((framework, owners) -> {
+            Map<String, List<Map<String, Object>>> frameworkReport = new TreeMap<>();
+            owners.forEach((owner, selectors) -> {
+                List<SelectorStats> slowestFirst = new ArrayList<>(selectors.values());
+                slowestFirst.sort(Comparator.comparingDouble(SelectorStats::browserMicros).reversed()
+                        .thenComparing(Comparator.comparingDouble((SelectorStats stats) -> stats.wall.meanMillis()).reversed()));
+                List<Map<String, Object>> rows = new ArrayList<>();
+                slowestFirst.forEach(stats -> rows.add(stats.summary()));
+                frameworkReport.put(owner, rows);
+            });
+            report.put(framework, frameworkReport);
+        });
+
+        JsonReports.write(file, report);
+    }
+
+    /**
+     * Combines the reports of several shards. A selector used in more than one shard keeps the summed uses,
+     * the mean weighted by resolutions and the highest p90 and max; the in-browser profile of the first
+     * shard that has one is kept. Rows are re-sorted slowest first as in {@link #writeReport(Path)}.
+     */
+    public static Map<String, Map<String, List<Map<String, Object>>>> mergeReports(
+            List<Map<String, Map<String, List<Map<String, Object>>>>> reports) {
+        Map<String, Map<String, Map<String, Map<String, Object>>>> rows = new TreeMap<>();
+        reports.forEach(report -> report.forEach((framework, owners) -> owners.forEach((owner, selectors) ->
+                selectors.forEach(row -> rows.computeIfAbsent(framework, key -> new TreeMap<>())
+                        .computeIfAbsent(owner, key -> new LinkedHashMap<>())
+                        .merge(row.get("strategy") + ": " + row.get("selector"), new LinkedHashMap<>(row), LocatorProfile::mergeRow)))));
+
+        Map<String, Map<String, List<Map<String, Object>>>> merged = new TreeMap<>();
+        rows.forEach((framework, owners) -> owners.forEach((owner, selectors) -> {
+            List<Map<String, Object>> slowestFirst = new ArrayList<>(selectors.values());
+            slowestFirst.sort(Comparator.comparingDouble((Map<String, Object> row) -> number(row, "browserMicros", -1)).reversed()
+                    .thenComparing(Comparator.comparingDouble((Map<String, Object> row) -> number(row, "meanMs", 0)).reversed()));
+            merged.computeIfAbsent(framework, key -> new TreeMap<>()).put(owner, slowestFirst);
+        }));
+        return merged;
+    }
+
+    private static Map<String, Object> mergeRow(Map<String, Object> first, Map<String, Object> second) {
+        Map<String, Object> row = new LinkedHashMap<>(first);
+        row.put("uses", (long) number(first, "uses", 0) + (long) number(second, "uses", 0));
+        double firstResolutions = number(first, "resolutions", 0);
+        double secondResolutions = number(second, "resolutions", 0);
+        if (firstResolutions + secondResolutions > 0) {
+            row.put("resolutions", (long) (firstResolutions + secondResolutions));
+            row.put("meanMs", (number(first, "meanMs", 0) * firstResolutions + number(second, "meanMs", 0) * secondResolutions)
+                    / (firstResolutions + secondResolutions));
+            row.put("p90Ms", Math.max(number(first, "p90Ms", 0), number(second, "p90Ms", 0)));
+            row.put("maxMs", Math.max(number(first, "maxMs", 0), number(second, "maxMs", 0)));
+        }
+        if (!first.containsKey("browserMicros")) {
+            second.forEach((key, value) -> {
+                if (!row.containsKey(key)) {
+                    row.put(key, value);
+                }
+            });
+        }
+        return row;
+    }
+
+    private static double number(Map<String, Object> row, String key, double missing) {
+        Object value = row.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : missing;
+    }
+
+    public static final class SelectorStats {
+        private final String strategy;
+        private final String selector;
+        private final LongAdder uses = new LongAdder();
+        private final LatencyHistogram wall = new LatencyHistogram();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile boolean profiled;
+        private volatile Map<String, Object> browser;
+        private volatile String candidate;
+
+        private SelectorStats(String strategy, String selector) {
+            this.strategy = strategy;
+            this.selector = selector;
+        }
+
+        public void used() {
+            uses.increment();
+        }
+
+        public void resolved(long nanos) {
+            uses.increment();
+            wall.record(nanos);
+        }
+
+        /**
+         * Queues timing the selector in the page for {@link #profilePending()}. {@code type} is "css" or
+         * "xpath" and {@code evaluate} runs {@link pages.LocatorScripts#PROFILE} with the given query. A
+         * selector that matches nothing, e.g. one created before navigation, is retried after a few later tests.
+         */
+        public void profile(String type, String expression, UnaryOperator<Map<String, Object>> evaluate) {
+            if (!profiled) {
+                PENDING.get().putIfAbsent(this, () -> evaluate(type, expression, evaluate));
+            }
+        }
+
+        private void evaluate(String type, String expression, UnaryOperator<Map<String, Object>> evaluate) {
+            if (profiled) {
+                return;
+            }
+            Map<String, Object> query = new LinkedHashMap<>();
+            query.put("type", type);
+            query.put("selector", expression);
+            query.put("iterations", Configs.get().getLocatorProfileIterations());
+            candidate = "xpath".equals(type) ? XPathToCss.translate(expression).orElse(null) : null;
+            query.put("candidate", candidate);
+
+            Map<String, Object> result;
+            try {
+                result = evaluate.apply(query);
+            } catch (RuntimeException e) {
+                // selectors only the framework understands, e.g. Playwright's :has-text(), or a closed page
+                profiled = attempts.incrementAndGet() >= MAX_PROFILE_ATTEMPTS;
+                return;
+            }
+            if (((Number) result.get("matches")).longValue() == 0) {
+                profiled = attempts.incrementAndGet() >= MAX_PROFILE_ATTEMPTS;
+                return;
+            }
+            browser = result;
+            profiled = true;
+            if (candidate != null && Boolean.TRUE.equals(result.get("identical"))
+                    && ((Number) result.get("candidateMicros")).doubleValue() <= ((Number) result.get("micros")).doubleValue()) {
+                REWRITES.put(expression, candidate);
+            }
+        }
+
+        private double browserMicros() {
+            Map<String, Object> result = browser;
+            return result == null ? -1 : ((Number) result.get("micros")).doubleValue();
+        }
+
+        private Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("strategy", strategy);
+            summary.put("selector", selector);
+            summary.put("uses", uses.sum());
+            if (wall.count() > 0) {
+                summary.put("resolutions", wall.count());
+                summary.put("meanMs", wall.meanMillis());
+                summary.put("p90Ms", wall.percentileMillis(90));
+                summary.put("maxMs", wall.maxMillis());
+            }
+            Map<String, Object> result = browser;
+            if (result != null) {
+                summary.put("matches", result.get("matches"));
+                summary.put("browserMicros", result.get("micros"));
+                if (candidate != null) {
+                    summary.put("suggestion", candidate);
+                    summary.put("suggestionMicros", result.get("candidateMicros"));
+                    summary.put("identical", result.get("identical"));
+                    summary.put("rewritten", Configs.get().isLocatorRewrite() && REWRITES.containsKey(selector));
+                }
+            }
+            return summary;
+        }
+    }
+}
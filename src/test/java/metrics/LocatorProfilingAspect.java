@@ -0,0 +1,107 @@
+package metrics;
+
+import com.codeborne.selenide.Selenide;
+import com.microsoft.playwright.Page;
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openqa.selenium.By;
+import pages.LocatorScripts;
+
+import java.util.Map;
+import java.util.Optional;
+
+@Aspect
+public class LocatorProfilingAspect {
+    private static final String PLAYWRIGHT = "playwright";
+    private static final String XPATH_PREFIX = "xpath=";
+    private static final String CSS_PREFIX = "css=";
+    private static final String SELENIDE_XPATH_PREFIX = "By.xpath: ";
+
+    @Around("call(com.microsoft.playwright.Locator com.microsoft.playwright.Page.locator(String, ..))")
+    public Object profilePlaywrightLocator(ProceedingJoinPoint joinPoint) throws Throwable {
+        TestPropertiesConfig config = Configs.get();
+        if (!config.isLocatorProfiling() && !config.isLocatorRewrite()) {
+            return joinPoint.proceed();
+        }
+        Object[] args = joinPoint.getArgs();
+        String selector = (String) args[0];
+        String[] query = documentQuery(selector);
+
+        // rewrites are only taken from verified profiles, so rewriting implies profiling
+        LocatorProfile.SelectorStats stats = LocatorProfile.selector(PLAYWRIGHT,
+                joinPoint.getSourceLocation().getWithinType().getName(), query == null ? "engine" : query[0], selector);
+        stats.used();
+        if (query != null) {
+            Page page = (Page) joinPoint.getTarget();
+            stats.profile(query[0], query[1], profileQuery -> {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> result = (Map<String, Object>) page.evaluate(LocatorScripts.PROFILE, profileQuery);
+                return result;
+            });
+        }
+
+        Optional<String> rewrite = config.isLocatorRewrite() && query != null && "xpath".equals(query[0])
+                ? LocatorProfile.rewrite(query[1])
+                : Optional.empty();
+        if (rewrite.isPresent()) {
+            args[0] = CSS_PREFIX + rewrite.get();
+            return joinPoint.proceed(args);
+        }
+        return joinPoint.proceed();
+    }
+
+    /**
+     * Document-level Selenide lookups only: from an element, a CSS selector may match through ancestors
+     * outside that element, so element-scoped XPath has no exact CSS rewrite.
+     */
+    @Around("call(* com.codeborne.selenide.Selenide.$(org.openqa.selenium.By))"
+            + " || call(* com.codeborne.selenide.Selenide.$$(org.openqa.selenium.By))")
+    public Object rewriteSelenideLocator(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!Configs.get().isLocatorRewrite()) {
+            return joinPoint.proceed();
+        }
+        String description = joinPoint.getArgs()[0].toString();
+        Optional<String> rewrite = description.startsWith(SELENIDE_XPATH_PREFIX)
+                ? LocatorProfile.rewrite(description.substring(SELENIDE_XPATH_PREFIX.length()))
+                : Optional.empty();
+        if (rewrite.isPresent()) {
+            return joinPoint.proceed(new Object[]{By.cssSelector(rewrite.get())});
+        }
+        return joinPoint.proceed();
+    }
+
+    @Around("call(* com.codeborne.selenide.Selenide.$x(String))"
+            + " || call(* com.codeborne.selenide.Selenide.$$x(String))")
+    public Object rewriteSelenideXPath(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!Configs.get().isLocatorRewrite()) {
+            return joinPoint.proceed();
+        }
+        Optional<String> rewrite = LocatorProfile.rewrite((String) joinPoint.getArgs()[0]);
+        if (rewrite.isEmpty()) {
+            return joinPoint.proceed();
+        }
+        By css = By.cssSelector(rewrite.get());
+        return "$x".equals(joinPoint.getSignature().getName()) ? Selenide.$(css) : Selenide.$$(css);
+    }
+
+    /**
+     * Playwright selectors the browser can evaluate directly; text=, role= and chained selectors
+     * are left to Playwright's own engines.
+     */
+    private static String[] documentQuery(String selector) {
+        if (selector.startsWith(XPATH_PREFIX)) {
+            String xpath = selector.substring(XPATH_PREFIX.length());
+            return xpath.startsWith("/") ? new String[]{"xpath", xpath} : null;
+        }
+        if (selector.startsWith("//")) {
+            return new String[]{"xpath", selector};
+        }
+        if (selector.contains(">>") || selector.matches("^[a-z_-]+=.*") && !selector.startsWith(CSS_PREFIX)) {
+            return null;
+        }
+        return new String[]{"css", selector.startsWith(CSS_PREFIX) ? selector.substring(CSS_PREFIX.length()) : selector};
+    }
+}
@@ -0,0 +1,115 @@
+package metrics;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+import pages.FormScripts;
+import pages.LocatorScripts;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+public class LocatorTiming implements WebDriverListener {
+    private static final String SELENIDE = "selenide";
+    private static final ThreadLocal<Deque<Long>> STARTS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeFindElement(WebDriver driver, By locator) {
+        STARTS.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        resolved(driver, locator);
+    }
+
+    @Override
+    public void beforeFindElements(WebDriver driver, By locator) {
+        STARTS.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        resolved(driver, locator);
+    }
+
+    @Override
+    public void beforeFindElement(WebElement element, By locator) {
+        STARTS.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        resolved(null, locator);
+    }
+
+    @Override
+    public void beforeFindElements(WebElement element, By locator) {
+        STARTS.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterFindElements(WebElement element, By locator, List<WebElement> result) {
+        resolved(null, locator);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        // Selenide polls until the element appears, so failed lookups are part of the locator's cost
+        if (method.getName().startsWith("findElement") && args.length == 1 && args[0] instanceof By) {
+            resolved(null, (By) args[0]);
+        }
+    }
+
+    private static void resolved(WebDriver driver, By locator) {
+        Long start = STARTS.get().poll();
+        if (start == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        String description = locator.toString();
+        int colon = description.indexOf(": ");
+        String strategy = colon < 0 ? locator.getClass().getSimpleName() : description.substring(3, colon);
+        String selector = colon < 0 ? description : description.substring(colon + 2);
+        LocatorProfile.SelectorStats stats = LocatorProfile.selector(SELENIDE, LocatorProfile.owner(), strategy, selector);
+        stats.resolved(nanos);
+
+        String[] query = driver instanceof JavascriptExecutor ? documentQuery(strategy, selector) : null;
+        if (query != null) {
+            stats.profile(query[0], query[1], profileQuery -> {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver)
+                        .executeScript(FormScripts.forWebDriver(LocatorScripts.PROFILE), profileQuery);
+                return result;
+            });
+        }
+    }
+
+    /**
+     * The in-browser equivalent of a document-level By, or null for strategies without one.
+     */
+    private static String[] documentQuery(String strategy, String selector) {
+        switch (strategy) {
+            case "xpath":
+                return selector.startsWith("/") ? new String[]{"xpath", selector} : null;
+            case "cssSelector":
+                return new String[]{"css", selector};
+            case "id":
+                return new String[]{"css", "[id=\"" + selector.replace("\"", "\\\"") + "\"]"};
+            case "name":
+                return new String[]{"css", "[name=\"" + selector.replace("\"", "\\\"") + "\"]"};
+            case "className":
+                return new String[]{"css", "[class~=\"" + selector.replace("\"", "\\\"") + "\"]"};
+            case "tagName":
+                return new String[]{"css", selector};
+            default:
+                return null;
+        }
+    }
+}
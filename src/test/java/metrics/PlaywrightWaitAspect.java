@@ -0,0 +1,71 @@
+package metrics;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.options.WaitForSelectorState;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Times the auto-waiting Playwright does for actions and web-first assertions. Before an action the locator is
+ * first waited for explicitly, and only that wait is recorded, so the action's own round trip is not counted
+ * as waiting and the numbers compare with Selenide's should* polling.
+ */
+@Aspect
+public class PlaywrightWaitAspect {
+    private static final String PLAYWRIGHT = "playwright";
+
+    @Around("call(* com.microsoft.playwright.Locator+.click(..))"
+            + " || call(* com.microsoft.playwright.Locator+.dblclick(..))"
+            + " || call(* com.microsoft.playwright.Locator+.fill(..))"
+            + " || call(* com.microsoft.playwright.Locator+.clear(..))"
+            + " || call(* com.microsoft.playwright.Locator+.press*(..))"
+            + " || call(* com.microsoft.playwright.Locator+.check(..))"
+            + " || call(* com.microsoft.playwright.Locator+.uncheck(..))"
+            + " || call(* com.microsoft.playwright.Locator+.setChecked(..))"
+            + " || call(* com.microsoft.playwright.Locator+.selectOption(..))"
+            + " || call(* com.microsoft.playwright.Locator+.hover(..))")
+    public Object timeActionability(ProceedingJoinPoint joinPoint) throws Throwable {
+        waitFor((Locator) joinPoint.getTarget(), WaitForSelectorState.VISIBLE);
+        return joinPoint.proceed();
+    }
+
+    @Around("call(* com.microsoft.playwright.Locator+.setInputFiles(..))")
+    public Object timeAttached(ProceedingJoinPoint joinPoint) throws Throwable {
+        // file inputs are usually hidden behind a styled button, Playwright only needs them attached
+        waitFor((Locator) joinPoint.getTarget(), WaitForSelectorState.ATTACHED);
+        return joinPoint.proceed();
+    }
+
+    @Around("call(* com.microsoft.playwright.Locator+.waitFor(..))")
+    public Object timeWaitFor(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "waitFor");
+    }
+
+    @Around("call(* com.microsoft.playwright.assertions.LocatorAssertions+.*(..))"
+            + " || call(* com.microsoft.playwright.assertions.PageAssertions+.*(..))")
+    public Object timeAssertion(ProceedingJoinPoint joinPoint) throws Throwable {
+        if ("not".equals(joinPoint.getSignature().getName())) {
+            return joinPoint.proceed();
+        }
+        return time(joinPoint, "assertion");
+    }
+
+    private static void waitFor(Locator locator, WaitForSelectorState state) {
+        long start = System.nanoTime();
+        try {
+            locator.waitFor(new Locator.WaitForOptions().setState(state));
+        } finally {
+            WaitTimes.recordImplicit(PLAYWRIGHT, "actionability", System.nanoTime() - start);
+        }
+    }
+
+    private static Object time(ProceedingJoinPoint joinPoint, String kind) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WaitTimes.recordImplicit(PLAYWRIGHT, kind, System.nanoTime() - start);
+        }
+    }
+}
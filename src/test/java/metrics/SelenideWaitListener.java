@@ -0,0 +1,33 @@
+package metrics;
+
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long Selenide's {@code should*} and {@code wait until} checks poll before they pass or time out.
+ * Selenide keeps log listeners per thread, so this is registered for each test.
+ */
+public class SelenideWaitListener implements LogEventListener {
+    public static final String NAME = "waitTimes";
+
+    private static final String FRAMEWORK = "selenide";
+
+    @Override
+    public void afterEvent(LogEvent event) {
+        String subject = event.getSubject();
+        if (subject == null) {
+            return;
+        }
+        if (subject.startsWith("should")) {
+            WaitTimes.recordImplicit(FRAMEWORK, "should", TimeUnit.MILLISECONDS.toNanos(event.getDuration()));
+        } else if (subject.startsWith("wait until")) {
+            WaitTimes.recordImplicit(FRAMEWORK, "waitUntil", TimeUnit.MILLISECONDS.toNanos(event.getDuration()));
+        }
+    }
+
+    @Override
+    public void beforeEvent(LogEvent event) {
+    }
+}
@@ -0,0 +1,44 @@
+package metrics;
+
+import capture.Captures;
+import configs.Configs;
+import io.qameta.allure.Step;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.DeclarePrecedence;
+import org.aspectj.lang.reflect.MethodSignature;
+
+@Aspect
+@DeclarePrecedence("io.qameta.allure.aspects.StepsAspects, metrics.StepTimingAspect")
+public class StepTimingAspect {
+    private static final String PLAYWRIGHT = "playwright";
+
+    @Around("execution(@io.qameta.allure.Step * *(..))")
+    public Object timeStep(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String framework = framework(signature.getDeclaringType());
+        long driverStart = DriverTime.totalNanos();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long wall = System.nanoTime() - start;
+            long driver = PLAYWRIGHT.equals(framework) ? wall : DriverTime.totalNanos() - driverStart;
+            StepTimings.record(framework, stepName(signature), wall, driver);
+            if (Configs.get().isCaptureSteps()) {
+                Captures.capture(stepName(signature));
+            }
+        }
+    }
+
+    private static String framework(Class<?> type) {
+        String packageName = type.getPackageName();
+        return packageName.startsWith("pages.") ? packageName.substring("pages.".length()) : packageName;
+    }
+
+    private static String stepName(MethodSignature signature) {
+        Step step = signature.getMethod().getAnnotation(Step.class);
+        return step == null || step.value().isEmpty() ? signature.getName() : step.value();
+    }
+}
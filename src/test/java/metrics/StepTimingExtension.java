@@ -0,0 +1,62 @@
+package metrics;
+
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import scheduling.Shard;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class StepTimingExtension implements BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(StepTimingExtension.class);
+    private static final String CSV_HEADER = "framework,step,wallMs,driverMs";
+    private static final String WAIT_CSV_HEADER = "wait,waitMs";
+
+    private final TestPropertiesConfig config = Configs.get();
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(SummaryWriter.class,
+                key -> new SummaryWriter(config), SummaryWriter.class);
+        StepTimings.startTest();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TestMetrics testMetrics = StepTimings.finishTest();
+        if (!testMetrics.steps().isEmpty()) {
+            Allure.addAttachment("Step timings", "text/csv", CSV_HEADER + "\n" + String.join("\n", testMetrics.steps()), ".csv");
+        }
+
+        Map<String, Double> waits = testMetrics.waitMillis();
+        if (!waits.isEmpty()) {
+            String rows = waits.entrySet().stream()
+                    .map(wait -> String.format("%s,%.3f", wait.getKey(), wait.getValue()))
+                    .collect(Collectors.joining("\n"));
+            Allure.addAttachment("Wait times", "text/csv",
+                    WAIT_CSV_HEADER + "\n" + rows + String.format("%ntotal,%.3f", testMetrics.totalWaitMillis()), ".csv");
+        }
+    }
+
+    private static class SummaryWriter implements ExtensionContext.Store.CloseableResource {
+        private final TestPropertiesConfig config;
+
+        private SummaryWriter(TestPropertiesConfig config) {
+            this.config = config;
+        }
+
+        @Override
+        public void close() {
+            Shard shard = Shard.current();
+            StepTimings.writeSummary(shard.resolve(config.getStepTimingsFile()));
+            WaitTimes.writeSummary(shard.resolve(config.getWaitTimesFile()));
+            if (config.isLocatorProfiling() || config.isLocatorRewrite()) {
+                LocatorProfile.writeReport(shard.resolve(config.getLocatorReportFile()));
+            }
+        }
+    }
+}
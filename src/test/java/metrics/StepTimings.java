@@ -0,0 +1,61 @@
+package metrics;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+public final class StepTimings {
+    private static final ConcurrentMap<String, ConcurrentMap<String, StepStats>> STATS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<TestMetrics> CURRENT_TEST = new ThreadLocal<>();
+
+    private StepTimings() {
+    }
+
+    public static void record(String framework, String step, long wallNanos, long driverNanos) {
+        StepStats stats = STATS.computeIfAbsent(framework, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(step, key -> new StepStats());
+        stats.wall.record(wallNanos);
+        stats.driver.record(driverNanos);
+
+        TestMetrics testMetrics = CURRENT_TEST.get();
+        if (testMetrics != null) {
+            testMetrics.addStep(String.format("%s,\"%s\",%.3f,%.3f", framework, step.replace("\"", "\"\""),
+                    TimeUnit.NANOSECONDS.toMicros(wallNanos) / 1000.0, TimeUnit.NANOSECONDS.toMicros(driverNanos) / 1000.0));
+        }
+    }
+
+    public static void startTest() {
+        CURRENT_TEST.set(new TestMetrics());
+    }
+
+    public static TestMetrics currentTest() {
+        return CURRENT_TEST.get();
+    }
+
+    public static TestMetrics finishTest() {
+        TestMetrics testMetrics = CURRENT_TEST.get();
+        CURRENT_TEST.remove();
+        return testMetrics == null ? new TestMetrics() : testMetrics;
+    }
+
+    public static void writeSummary(Path file) {
+        Map<String, Map<String, Object>> summary = new TreeMap<>();
+        STATS.forEach((framework, steps) -> {
+            Map<String, Object> frameworkSummary = new TreeMap<>();
+            steps.forEach((step, stats) -> frameworkSummary.put(step, Map.of(
+                    "wall", stats.wall.summary(),
+                    "driver", stats.driver.summary())));
+            summary.put(framework, frameworkSummary);
+        });
+
+        JsonReports.write(file, summary);
+    }
+
+    private static class StepStats {
+        private final LatencyHistogram wall = new LatencyHistogram();
+        private final LatencyHistogram driver = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,34 @@
+package metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+public class TestMetrics {
+    private final List<String> steps = new ArrayList<>();
+    private final Map<String, Long> waitNanos = new TreeMap<>();
+
+    void addStep(String step) {
+        steps.add(step);
+    }
+
+    void addWait(String kind, long nanos) {
+        waitNanos.merge(kind, nanos, Long::sum);
+    }
+
+    public List<String> steps() {
+        return steps;
+    }
+
+    public Map<String, Double> waitMillis() {
+        Map<String, Double> millis = new TreeMap<>();
+        waitNanos.forEach((kind, nanos) -> millis.put(kind, TimeUnit.NANOSECONDS.toMicros(nanos) / 1000.0));
+        return millis;
+    }
+
+    public double totalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMicros(waitNanos.values().stream().mapToLong(Long::longValue).sum()) / 1000.0;
+    }
+}
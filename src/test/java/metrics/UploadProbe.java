@@ -0,0 +1,60 @@
+package metrics;
+
+import configs.Configs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public final class UploadProbe {
+    private static final List<Map<String, Object>> RESULTS = new ArrayList<>();
+
+    private UploadProbe() {
+    }
+
+    public static void measure(String framework, Path file, Runnable upload) {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .collect(Collectors.toList());
+        long heapBefore = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long start = System.nanoTime();
+        upload.run();
+        long nanos = System.nanoTime() - start;
+        long heapPeak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("framework", framework);
+        result.put("file", file.getFileName().toString());
+        result.put("bytes", size(file));
+        result.put("uploadMs", TimeUnit.NANOSECONDS.toMicros(nanos) / 1000.0);
+        result.put("heapBeforeBytes", heapBefore);
+        result.put("heapPeakBytes", heapPeak);
+        result.put("heapGrowthBytes", Math.max(0, heapPeak - heapBefore));
+
+        synchronized (RESULTS) {
+            RESULTS.add(result);
+            JsonReports.write(Paths.get(Configs.get().getUploadReportFile()), RESULTS);
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
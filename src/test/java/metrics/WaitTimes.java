@@ -0,0 +1,73 @@
+package metrics;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Time spent waiting, per framework and kind. Explicit waits from the page-object {@code Waits} helpers are
+ * recorded under their own kind; the waiting built into Selenide's {@code should*} checks and Playwright's
+ * actions and assertions is recorded under {@code implicit.*} kinds, and is not counted again while an
+ * explicit wait is running on the same thread.
+ */
+public final class WaitTimes {
+    public static final String IMPLICIT_PREFIX = "implicit.";
+
+    private static final ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> STATS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> IN_EXPLICIT_WAIT = ThreadLocal.withInitial(() -> false);
+
+    private WaitTimes() {
+    }
+
+    public static <T> T time(String framework, String kind, Supplier<T> wait) {
+        boolean outer = !IN_EXPLICIT_WAIT.get();
+        IN_EXPLICIT_WAIT.set(true);
+        long start = System.nanoTime();
+        try {
+            return wait.get();
+        } finally {
+            if (outer) {
+                IN_EXPLICIT_WAIT.set(false);
+            }
+            record(framework, kind, System.nanoTime() - start);
+        }
+    }
+
+    public static void time(String framework, String kind, Runnable wait) {
+        time(framework, kind, () -> {
+            wait.run();
+            return null;
+        });
+    }
+
+    public static void recordImplicit(String framework, String kind, long nanos) {
+        if (!IN_EXPLICIT_WAIT.get()) {
+            record(framework, IMPLICIT_PREFIX + kind, nanos);
+        }
+    }
+
+    public static void record(String framework, String kind, long nanos) {
+        STATS.computeIfAbsent(framework, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(kind, key -> new LatencyHistogram())
+                .record(nanos);
+
+        TestMetrics testMetrics = StepTimings.currentTest();
+        if (testMetrics != null) {
+            testMetrics.addWait(framework + "." + kind, nanos);
+        }
+    }
+
+    public static void writeSummary(Path file) {
+        Map<String, Map<String, Object>> summary = new TreeMap<>();
+        STATS.forEach((framework, kinds) -> {
+            Map<String, Object> frameworkSummary = new TreeMap<>();
+            kinds.forEach((kind, histogram) -> frameworkSummary.put(kind, histogram.summary()));
+            summary.put(framework, frameworkSummary);
+        });
+
+        JsonReports.write(file, summary);
+    }
+}
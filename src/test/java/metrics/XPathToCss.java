@@ -0,0 +1,150 @@
+package metrics;
+
+import java.util.Optional;
+
+/**
+ * Translates the subset of absolute XPath that has an exact CSS counterpart: descendant and child steps
+ * over element names, attribute presence, equality, contains() and starts-with(). Anything else
+ * (text(), positions, axes, parent steps) has no CSS equivalent and yields an empty result.
+ */
+public final class XPathToCss {
+    private final String xpath;
+    private int position;
+
+    private XPathToCss(String xpath) {
+        this.xpath = xpath.trim();
+    }
+
+    public static Optional<String> translate(String xpath) {
+        try {
+            return Optional.of(new XPathToCss(xpath).path());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private String path() {
+        if (!xpath.startsWith("//")) {
+            throw unsupported();
+        }
+        StringBuilder css = new StringBuilder();
+        position = 2;
+        css.append(step());
+        while (position < xpath.length()) {
+            if (xpath.startsWith("//", position)) {
+                position += 2;
+                css.append(' ');
+            } else if (xpath.charAt(position) == '/') {
+                position++;
+                css.append(" > ");
+            } else {
+                throw unsupported();
+            }
+            css.append(step());
+        }
+        return css.toString();
+    }
+
+    private String step() {
+        int start = position;
+        while (position < xpath.length() && (Character.isLetterOrDigit(xpath.charAt(position))
+                || xpath.charAt(position) == '-' || xpath.charAt(position) == '_' || xpath.charAt(position) == '*')) {
+            position++;
+        }
+        String name = xpath.substring(start, position);
+        if (name.isEmpty() || name.contains("*") && !name.equals("*")) {
+            throw unsupported();
+        }
+
+        StringBuilder predicates = new StringBuilder();
+        while (position < xpath.length() && xpath.charAt(position) == '[') {
+            position++;
+            predicates.append(condition());
+            while (skipWhitespace() && xpath.startsWith("and", position)) {
+                position += 3;
+                predicates.append(condition());
+            }
+            expect(']');
+        }
+        if (name.equals("*")) {
+            return predicates.length() == 0 ? "*" : predicates.toString();
+        }
+        return name + predicates;
+    }
+
+    private String condition() {
+        skipWhitespace();
+        if (xpath.startsWith("contains(", position)) {
+            return function("contains(", "*=");
+        }
+        if (xpath.startsWith("starts-with(", position)) {
+            return function("starts-with(", "^=");
+        }
+        String attribute = attribute();
+        skipWhitespace();
+        if (position < xpath.length() && xpath.charAt(position) == '=') {
+            position++;
+            return "[" + attribute + "=" + literal() + "]";
+        }
+        return "[" + attribute + "]";
+    }
+
+    private String function(String name, String operator) {
+        position += name.length();
+        String attribute = attribute();
+        skipWhitespace();
+        expect(',');
+        String value = literal();
+        skipWhitespace();
+        expect(')');
+        return "[" + attribute + operator + value + "]";
+    }
+
+    private String attribute() {
+        skipWhitespace();
+        expect('@');
+        int start = position;
+        while (position < xpath.length() && (Character.isLetterOrDigit(xpath.charAt(position))
+                || xpath.charAt(position) == '-' || xpath.charAt(position) == '_')) {
+            position++;
+        }
+        if (start == position) {
+            throw unsupported();
+        }
+        return xpath.substring(start, position);
+    }
+
+    private String literal() {
+        skipWhitespace();
+        if (position >= xpath.length() || xpath.charAt(position) != '\'' && xpath.charAt(position) != '"') {
+            throw unsupported();
+        }
+        char quote = xpath.charAt(position++);
+        int end = xpath.indexOf(quote, position);
+        if (end < 0) {
+            throw unsupported();
+        }
+        String value = xpath.substring(position, end);
+        position = end + 1;
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private boolean skipWhitespace() {
+        while (position < xpath.length() && Character.isWhitespace(xpath.charAt(position))) {
+            position++;
+        }
+        return position < xpath.length();
+    }
+
+    private void expect(char expected) {
+        skipWhitespace();
+        if (position >= xpath.length() || xpath.charAt(position) != expected) {
+            throw unsupported();
+        }
+        position++;
+    }
+
+    private IllegalArgumentException unsupported() {
+        return new IllegalArgumentException("No CSS equivalent for " + xpath);
+    }
+}
@@ -0,0 +1,91 @@
+package metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class XPathToCssTests {
+
+    @Test
+    @DisplayName("Child step becomes a child combinator")
+    void childStepTest() {
+        assertThat(XPathToCss.translate("//a/b")).contains("a > b");
+    }
+
+    @Test
+    @DisplayName("Descendant step becomes a descendant combinator")
+    void descendantStepTest() {
+        assertThat(XPathToCss.translate("//a//b")).contains("a b");
+    }
+
+    @Test
+    @DisplayName("Wildcard steps")
+    void wildcardTest() {
+        assertThat(XPathToCss.translate("//*")).contains("*");
+        assertThat(XPathToCss.translate("//div/*")).contains("div > *");
+        assertThat(XPathToCss.translate("//*[@id='main']")).contains("[id=\"main\"]");
+    }
+
+    @Test
+    @DisplayName("Attribute presence and equality")
+    void attributeTest() {
+        assertThat(XPathToCss.translate("//a[@id]")).contains("a[id]");
+        assertThat(XPathToCss.translate("//input[@name='q']")).contains("input[name=\"q\"]");
+        assertThat(XPathToCss.translate("//input[@name=\"q\"]")).contains("input[name=\"q\"]");
+    }
+
+    @Test
+    @DisplayName("and joins predicates")
+    void andTest() {
+        assertThat(XPathToCss.translate("//input[@type='text' and @name='q']"))
+                .contains("input[type=\"text\"][name=\"q\"]");
+    }
+
+    @Test
+    @DisplayName("contains() and starts-with() become substring and prefix matches")
+    void functionsTest() {
+        assertThat(XPathToCss.translate("//a[contains(@class,'btn')]")).contains("a[class*=\"btn\"]");
+        assertThat(XPathToCss.translate("//a[ contains( @class , 'btn' ) ]")).contains("a[class*=\"btn\"]");
+        assertThat(XPathToCss.translate("//a[starts-with(@href,'https')]")).contains("a[href^=\"https\"]");
+    }
+
+    @Test
+    @DisplayName("Quotes and backslashes are escaped in CSS strings")
+    void quoteEscapingTest() {
+        assertThat(XPathToCss.translate("//input[@value=\"it's\"]")).contains("input[value=\"it's\"]");
+        assertThat(XPathToCss.translate("//a[@title='say \"hi\"']")).contains("a[title=\"say \\\"hi\\\"\"]");
+        assertThat(XPathToCss.translate("//input[@name='a\\b']")).contains("input[name=\"a\\\\b\"]");
+    }
+
+    @Test
+    @DisplayName("Predicates on several steps")
+    void multiStepPredicatesTest() {
+        assertThat(XPathToCss.translate("//form[@id='f']//input[@name='q']"))
+                .contains("form[id=\"f\"] input[name=\"q\"]");
+    }
+
+    @ParameterizedTest(name = "No CSS equivalent for {0}")
+    @ValueSource(strings = {
+            "//a[text()='x']",
+            "//a[normalize-space(.)='x']",
+            "//span[normalize-space(text())='Copyright']",
+            "//li[2]",
+            "//li[last()]",
+            "//a/..",
+            "//img/parent::a",
+            "//a[@id='x' or @id='y']",
+            "a/b",
+            "/html/body",
+            ".//a",
+            "//a[@id='unterminated]",
+            "//a[@id=x]"
+    })
+    void unsupportedTest(String xpath) {
+        assertThat(XPathToCss.translate(xpath)).isEmpty();
+    }
+}
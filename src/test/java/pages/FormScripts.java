@@ -0,0 +1,82 @@
+package pages;
+
+import fixtures.SubmissionSink;
+
+import java.util.Map;
+
+public final class FormScripts {
+    public static final String FILL_FORM = "values => {" +
+            " const form = document.querySelector('form');" +
+            " for (const [key, value] of Object.entries(values)) {" +
+            "   const field = document.getElementById(key) || form.elements.namedItem(key);" +
+            "   if (!field) { throw new Error('Unknown form field: ' + key); }" +
+            "   if (field.type === 'checkbox' || field.type === 'radio') {" +
+            "     field.checked = value === true || value === 'true';" +
+            "   } else {" +
+            "     field.value = String(value);" +
+            "   }" +
+            "   field.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "   field.dispatchEvent(new Event('change', { bubbles: true }));" +
+            " }" +
+            " }";
+
+    public static final String READ_FORM = "() => {" +
+            " const values = {};" +
+            " for (const field of document.querySelector('form').elements) {" +
+            "   if (!field.name || field.type === 'submit' || field.type === 'button') { continue; }" +
+            "   const checkable = field.type === 'checkbox' || field.type === 'radio';" +
+            "   values[checkable ? field.id : field.name] = checkable ? field.checked : field.value;" +
+            " }" +
+            " return values;" +
+            " }";
+
+    public static final String RETARGET_FORM = "target => {" +
+            " const form = document.querySelector('form');" +
+            " form.action = target.action;" +
+            " form.method = 'post';" +
+            " form.enctype = 'multipart/form-data';" +
+            " let correlation = form.querySelector(\"input[name='\" + target.field + \"']\");" +
+            " if (!correlation) {" +
+            "   correlation = document.createElement('input');" +
+            "   correlation.type = 'hidden';" +
+            "   correlation.name = target.field;" +
+            "   form.appendChild(correlation);" +
+            " }" +
+            " correlation.value = target.correlationId;" +
+            " }";
+
+    public static final String SELECTED_FILE_SIZE = "() => {" +
+            " const input = document.querySelector(\"input[name='my-file']\");" +
+            " return input.files.length === 0 ? -1 : input.files[0].size;" +
+            " }";
+
+    public static final String SNAPSHOT_FORM = "() => Array.from(document.querySelectorAll('form label')).map(label => {" +
+            " const control = label.querySelector('input, select, textarea');" +
+            " const attributes = {};" +
+            " if (control) { for (const attribute of control.attributes) { attributes[attribute.name] = attribute.value; } }" +
+            " return {" +
+            "   label: label.innerText," +
+            "   labelClass: label.className," +
+            "   tag: control ? control.tagName.toLowerCase() : null," +
+            "   type: control ? control.type : null," +
+            "   name: control ? control.name : null," +
+            "   id: control ? control.id : null," +
+            "   value: control ? control.value : null," +
+            "   checked: control ? Boolean(control.checked) : false," +
+            "   disabled: control ? control.disabled : false," +
+            "   readOnly: control ? Boolean(control.readOnly) : false," +
+            "   attributes: attributes" +
+            " };" +
+            " })";
+
+    private FormScripts() {
+    }
+
+    public static String forWebDriver(String function) {
+        return "return (" + function + ").apply(null, arguments);";
+    }
+
+    public static Map<String, String> submissionTarget(String action, String correlationId) {
+        return Map.of("action", action, "correlationId", correlationId, "field", SubmissionSink.CORRELATION_FIELD);
+    }
+}
@@ -0,0 +1,64 @@
+package pages;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public final class FormSnapshot {
+    private final List<Field> fields;
+
+    private FormSnapshot(List<Field> fields) {
+        this.fields = List.copyOf(fields);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static FormSnapshot from(Object scriptResult) {
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) scriptResult;
+        return new FormSnapshot(rows.stream()
+                .map(Field::from)
+                .collect(Collectors.toList()));
+    }
+
+    public List<Field> fields() {
+        return fields;
+    }
+
+    public List<String> labelTexts(String labelClass) {
+        return fields.stream()
+                .filter(field -> field.labelClass().equals(labelClass))
+                .map(Field::label)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<Field> field(String nameOrId) {
+        return fields.stream()
+                .filter(field -> nameOrId.equals(field.name()) || nameOrId.equals(field.id()))
+                .findFirst();
+    }
+
+    public record Field(String label, String labelClass, String tag, String type, String name, String id, String value,
+                        boolean checked, boolean disabled, boolean readOnly, Map<String, String> attributes) {
+
+        @SuppressWarnings("unchecked")
+        private static Field from(Map<String, Object> row) {
+            Map<String, String> attributes = (Map<String, String>) row.getOrDefault("attributes", Map.of());
+            return new Field(
+                    (String) row.get("label"),
+                    (String) row.get("labelClass"),
+                    (String) row.get("tag"),
+                    (String) row.get("type"),
+                    (String) row.get("name"),
+                    (String) row.get("id"),
+                    (String) row.get("value"),
+                    Boolean.TRUE.equals(row.get("checked")),
+                    Boolean.TRUE.equals(row.get("disabled")),
+                    Boolean.TRUE.equals(row.get("readOnly")),
+                    Map.copyOf(attributes));
+        }
+
+        public String attribute(String name) {
+            return attributes.get(name);
+        }
+    }
+}
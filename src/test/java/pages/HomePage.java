@@ -0,0 +1,7 @@
+package pages;
+
+public interface HomePage {
+    void open();
+
+    WebFormPage openWebForm();
+}
@@ -0,0 +1,35 @@
+package pages;
+
+public final class LocatorScripts {
+    public static final String PROFILE = "query => {" +
+            " const select = (type, expression) => {" +
+            "   if (type !== 'xpath') { return Array.from(document.querySelectorAll(expression)); }" +
+            "   const result = document.evaluate(expression, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "   const nodes = [];" +
+            "   for (let i = 0; i < result.snapshotLength; i++) { nodes.push(result.snapshotItem(i)); }" +
+            "   return nodes;" +
+            " };" +
+            " const time = (type, expression) => {" +
+            "   let nodes = select(type, expression);" +
+            "   const start = performance.now();" +
+            "   for (let i = 0; i < query.iterations; i++) { nodes = select(type, expression); }" +
+            "   return { nodes, micros: (performance.now() - start) * 1000 / query.iterations };" +
+            " };" +
+            " const original = time(query.type, query.selector);" +
+            " const profile = { matches: original.nodes.length, micros: original.micros };" +
+            " if (query.candidate) {" +
+            "   try {" +
+            "     const candidate = time('css', query.candidate);" +
+            "     profile.candidateMicros = candidate.micros;" +
+            "     profile.identical = candidate.nodes.length === original.nodes.length" +
+            "         && candidate.nodes.every((node, i) => node === original.nodes[i]);" +
+            "   } catch (e) {" +
+            "     profile.identical = false;" +
+            "   }" +
+            " }" +
+            " return profile;" +
+            " }";
+
+    private LocatorScripts() {
+    }
+}
@@ -0,0 +1,36 @@
+package pages;
+
+public final class WaitScripts {
+    public static final String WAIT_FOR_ELEMENT = "([selector, expected, timeout]) => new Promise((resolve, reject) => {" +
+            " const matches = () => {" +
+            "   const element = document.querySelector(selector);" +
+            "   return !!element && (expected === null || element.value === expected);" +
+            " };" +
+            " if (matches()) { resolve(true); return; }" +
+            " const observer = new MutationObserver(() => check());" +
+            " const cleanup = () => {" +
+            "   observer.disconnect();" +
+            "   document.removeEventListener('input', check, true);" +
+            "   document.removeEventListener('change', check, true);" +
+            "   clearTimeout(timer);" +
+            " };" +
+            " const check = () => { if (matches()) { cleanup(); resolve(true); } };" +
+            " const timer = setTimeout(() => {" +
+            "   cleanup();" +
+            "   reject(new Error('Timed out after ' + timeout + 'ms waiting for ' + selector" +
+            "       + (expected === null ? '' : ' to have value ' + expected)));" +
+            " }, timeout);" +
+            " observer.observe(document, { subtree: true, childList: true, attributes: true, characterData: true });" +
+            " document.addEventListener('input', check, true);" +
+            " document.addEventListener('change', check, true);" +
+            " })";
+
+    private WaitScripts() {
+    }
+
+    public static String forWebDriverAsync(String function) {
+        return "const callback = arguments[arguments.length - 1];" +
+                " (" + function + ")(Array.prototype.slice.call(arguments, 0, arguments.length - 1))" +
+                " .then(() => callback(null), error => callback(String(error.message || error)));";
+    }
+}
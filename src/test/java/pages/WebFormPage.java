@@ -0,0 +1,38 @@
+package pages;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+public interface WebFormPage {
+    void open();
+
+    void submit();
+
+    void submitTo(String action, String correlationId);
+
+    void inputLogin(String login);
+
+    String getTextValue();
+
+    void clearTextValue();
+
+    void inputPassword(String password);
+
+    String getTextPassword();
+
+    void clearPasswordValue();
+
+    void selectOption(String value);
+
+    String getSelectedOption();
+
+    void uploadFile(Path file);
+
+    long getSelectedFileSize();
+
+    void fillForm(Map<String, Object> values);
+
+    Map<String, Object> readForm();
+
+    FormSnapshot snapshot();
+}
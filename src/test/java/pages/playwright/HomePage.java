@@ -2,8 +2,11 @@ package pages.playwright;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import configs.Configs;
+import configs.TestPropertiesConfig;
 
-public class HomePage {
+public class HomePage implements pages.HomePage {
+    private final TestPropertiesConfig config = Configs.get();
     private final Page page;
     private final Locator webFormButton;
 
@@ -14,11 +17,12 @@ public class HomePage {
     }
 
     public void open() {
-        page.navigate("https://bonigarcia.dev/selenium-webdriver-java/");
+        page.navigate(config.getBaseUrl());
     }
 
-    public WebFormPage openWebFormPage() {
+    public WebFormPage openWebForm() {
         webFormButton.click();
+        new Waits(page).forUrl("**/web-form.html");
         return new WebFormPage(page);
     }
 }
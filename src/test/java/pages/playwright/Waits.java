@@ -0,0 +1,47 @@
+package pages.playwright;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.options.LoadState;
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import metrics.WaitTimes;
+import pages.WaitScripts;
+
+import java.util.Arrays;
+
+public class Waits {
+    private static final String FRAMEWORK = "playwright";
+
+    private final TestPropertiesConfig config = Configs.get();
+    private final Page page;
+
+    public Waits(Page page) {
+        this.page = page;
+    }
+
+    public void forLoadState(LoadState state) {
+        WaitTimes.time(FRAMEWORK, "loadState", () -> page.waitForLoadState(state,
+                new Page.WaitForLoadStateOptions().setTimeout(config.getWaitTimeout())));
+    }
+
+    public void forUrl(String glob) {
+        WaitTimes.time(FRAMEWORK, "url", () -> page.waitForURL(glob,
+                new Page.WaitForURLOptions().setTimeout(config.getWaitTimeout())));
+    }
+
+    public Response forResponse(String glob, Runnable action) {
+        return WaitTimes.time(FRAMEWORK, "response", () -> page.waitForResponse(glob,
+                new Page.WaitForResponseOptions().setTimeout(config.getWaitTimeout()), action));
+    }
+
+    public void forElement(String css) {
+        WaitTimes.time(FRAMEWORK, "element", () -> page.evaluate(WaitScripts.WAIT_FOR_ELEMENT,
+                Arrays.asList(css, null, config.getWaitTimeout())));
+    }
+
+    public void forValue(String css, String expected) {
+        WaitTimes.time(FRAMEWORK, "value", () -> page.evaluate(WaitScripts.WAIT_FOR_ELEMENT,
+                Arrays.asList(css, expected, config.getWaitTimeout())));
+    }
+}
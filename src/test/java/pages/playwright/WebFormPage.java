@@ -2,19 +2,34 @@ package pages.playwright;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import configs.Configs;
 import io.qameta.allure.Step;
+import pages.FormScripts;
+import pages.FormSnapshot;
 
-public class WebFormPage {
+import java.nio.file.Path;
+import java.util.Map;
+
+public class WebFormPage implements pages.WebFormPage {
     private final Page page;
     private final Locator submitButton;
     private final Locator inputLoginField;
     private final Locator inputPasswordField;
+    private final Locator dropdownSelectMenu;
+    private final Locator fileInput;
 
     public WebFormPage(Page page) {
         this.page = page;
         this.submitButton = page.getByText("Submit");
         this.inputLoginField = page.locator("#my-text-id");
         this.inputPasswordField = page.locator("css=[name='my-password']");
+        this.dropdownSelectMenu = page.locator("css=[name='my-select']");
+        this.fileInput = page.locator("css=input[name='my-file']");
+    }
+
+    @Step("Open web form")
+    public void open() {
+        page.navigate(Configs.get().getBaseUrl() + "web-form.html");
     }
 
     @Step("Click to submit")
@@ -22,11 +37,22 @@ public class WebFormPage {
         submitButton.click();
     }
 
+    @Step("Submit form to {action}")
+    public void submitTo(String action, String correlationId) {
+        page.evaluate(FormScripts.RETARGET_FORM, FormScripts.submissionTarget(action, correlationId));
+        submitButton.click();
+    }
+
     @Step("Input login")
     public void inputLogin(String login) {
         inputLoginField.fill(login);;
     }
 
+    @Step("Assert value text")
+    public String getTextValue() {
+        return inputLoginField.inputValue();
+    }
+
     @Step("Clear text in user field")
     public void clearTextValue() {
         inputLoginField.clear();
@@ -37,8 +63,49 @@ public class WebFormPage {
         inputPasswordField.fill(password);;
     }
 
+    @Step("Assert value password")
+    public String getTextPassword() {
+        return inputPasswordField.inputValue();
+    }
+
     @Step("Clear password")
     public void clearPasswordValue() {
         inputPasswordField.clear();
     }
+
+    @Step("Select dropdown option")
+    public void selectOption(String value) {
+        dropdownSelectMenu.selectOption(value);
+    }
+
+    @Step("Assert selected dropdown option")
+    public String getSelectedOption() {
+        return dropdownSelectMenu.inputValue();
+    }
+
+    @Step("Upload file")
+    public void uploadFile(Path file) {
+        fileInput.setInputFiles(file);
+    }
+
+    @Step("Read selected file size")
+    public long getSelectedFileSize() {
+        return ((Number) page.evaluate(FormScripts.SELECTED_FILE_SIZE)).longValue();
+    }
+
+    @Step("Fill form fields")
+    public void fillForm(Map<String, Object> values) {
+        page.evaluate(FormScripts.FILL_FORM, values);
+    }
+
+    @Step("Read form fields")
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> readForm() {
+        return (Map<String, Object>) page.evaluate(FormScripts.READ_FORM);
+    }
+
+    @Step("Capture form snapshot")
+    public FormSnapshot snapshot() {
+        return FormSnapshot.from(page.evaluate(FormScripts.SNAPSHOT_FORM));
+    }
 }
@@ -1,20 +1,26 @@
 package pages.selenide;
 
 import com.codeborne.selenide.Selenide;
+import configs.Configs;
+import configs.TestPropertiesConfig;
 import org.openqa.selenium.By;
 
 import static com.codeborne.selenide.Selenide.$;
 import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
 
-public class HomePage {
+public class HomePage implements pages.HomePage {
+    private final TestPropertiesConfig config = Configs.get();
 
     public void open() {
-        Selenide.open("https://bonigarcia.dev/selenium-webdriver-java/");
-        getWebDriver().manage().window().maximize();
+        Selenide.open(config.getBaseUrl());
+        if (!config.isHeadless()) {
+            getWebDriver().manage().window().maximize();
+        }
     }
 
     public WebFormPage openWebForm() {
         $(By.linkText("Web form")).click();
+        new Waits().forElement("form");
         return new WebFormPage();
     }
 }
@@ -0,0 +1,43 @@
+package pages.selenide;
+
+import com.codeborne.selenide.Configuration;
+import metrics.WaitTimes;
+import org.openqa.selenium.TimeoutException;
+import pages.WaitScripts;
+
+import static com.codeborne.selenide.Selenide.executeAsyncJavaScript;
+import static com.codeborne.selenide.Selenide.webdriver;
+import static com.codeborne.selenide.WebDriverConditions.url;
+import static com.codeborne.selenide.WebDriverConditions.urlContaining;
+
+public class Waits {
+    private static final String FRAMEWORK = "selenide";
+    private static final String WAIT_FOR_ELEMENT = WaitScripts.forWebDriverAsync(WaitScripts.WAIT_FOR_ELEMENT);
+
+    public void forElement(String css) {
+        WaitTimes.time(FRAMEWORK, "element", () -> awaitScript(css, null));
+    }
+
+    public void forValue(String css, String expected) {
+        WaitTimes.time(FRAMEWORK, "value", () -> awaitScript(css, expected));
+    }
+
+    public void forUrl(String expected) {
+        WaitTimes.time(FRAMEWORK, "url", () -> {
+            webdriver().shouldHave(url(expected));
+        });
+    }
+
+    public void forUrlContaining(String fragment) {
+        WaitTimes.time(FRAMEWORK, "url", () -> {
+            webdriver().shouldHave(urlContaining(fragment));
+        });
+    }
+
+    private void awaitScript(String css, String expected) {
+        String error = executeAsyncJavaScript(WAIT_FOR_ELEMENT, css, expected, Configuration.timeout);
+        if (error != null) {
+            throw new TimeoutException(error);
+        }
+    }
+}
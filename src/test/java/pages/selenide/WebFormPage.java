@@ -1,17 +1,36 @@
 package pages.selenide;
 
+import com.codeborne.selenide.Selenide;
+import configs.Configs;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
+import pages.FormScripts;
+import pages.FormSnapshot;
+
+import java.nio.file.Path;
+import java.util.Map;
 
 import static com.codeborne.selenide.Selenide.$;
+import static com.codeborne.selenide.Selenide.executeJavaScript;
 
-public class WebFormPage {
+public class WebFormPage implements pages.WebFormPage {
     public static final String VALUE_NAME = "value";
 
+    @Step("Open web form")
+    public void open() {
+        Selenide.open(Configs.get().getBaseUrl() + "web-form.html");
+    }
+
     public void submit() {
         $(By.xpath("//button[text() = 'Submit']")).click();
     }
 
+    @Step("Submit form to {action}")
+    public void submitTo(String action, String correlationId) {
+        executeJavaScript(FormScripts.forWebDriver(FormScripts.RETARGET_FORM), FormScripts.submissionTarget(action, correlationId));
+        submit();
+    }
+
     @Step("Input login")
     public void inputLogin(String login) {
         $(By.id("my-text-id")).sendKeys(login);;
@@ -41,4 +60,40 @@ public class WebFormPage {
     public void clearPasswordValue() {
         $(By.name("my-password")).clear();
     }
+
+    @Step("Select dropdown option")
+    public void selectOption(String value) {
+        $(By.name("my-select")).selectOptionByValue(value);
+    }
+
+    @Step("Assert selected dropdown option")
+    public String getSelectedOption() {
+        return $(By.name("my-select")).getSelectedOptionValue();
+    }
+
+    @Step("Upload file")
+    public void uploadFile(Path file) {
+        $("input[name='my-file']").uploadFile(file.toFile());
+    }
+
+    @Step("Read selected file size")
+    public long getSelectedFileSize() {
+        Number size = executeJavaScript(FormScripts.forWebDriver(FormScripts.SELECTED_FILE_SIZE));
+        return size.longValue();
+    }
+
+    @Step("Fill form fields")
+    public void fillForm(Map<String, Object> values) {
+        executeJavaScript(FormScripts.forWebDriver(FormScripts.FILL_FORM), values);
+    }
+
+    @Step("Read form fields")
+    public Map<String, Object> readForm() {
+        return executeJavaScript(FormScripts.forWebDriver(FormScripts.READ_FORM));
+    }
+
+    @Step("Capture form snapshot")
+    public FormSnapshot snapshot() {
+        return FormSnapshot.from(executeJavaScript(FormScripts.forWebDriver(FormScripts.SNAPSHOT_FORM)));
+    }
 }
@@ -0,0 +1,69 @@
+package scheduling;
+
+import configs.Configs;
+import metrics.JsonReports;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+public class DurationRecorder implements TestExecutionListener {
+    private final ConcurrentMap<String, Long> started = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Double> observed = new ConcurrentHashMap<>();
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        started.put(testIdentifier.getUniqueId(), System.nanoTime());
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        Long start = started.remove(testIdentifier.getUniqueId());
+        if (start == null) {
+            return;
+        }
+        double millis = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / 1000.0;
+        String key = key(testIdentifier);
+        if (key != null) {
+            observed.merge(key, millis, Double::sum);
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (observed.isEmpty()) {
+            return;
+        }
+        Shard shard = Shard.current();
+        if (shard.isSharded()) {
+            // every shard plans from the same store, so observations are folded in once by ShardMerge
+            JsonReports.write(shard.resolve(Configs.get().getDurationStoreFile()), new TreeMap<>(observed));
+        } else {
+            DurationStore store = DurationStore.instance();
+            store.update(Map.copyOf(observed));
+            store.save();
+        }
+        observed.clear();
+    }
+
+    private static String key(TestIdentifier testIdentifier) {
+        TestSource source = testIdentifier.getSource().orElse(null);
+        if (source instanceof MethodSource && testIdentifier.isTest()) {
+            MethodSource method = (MethodSource) source;
+            return DurationStore.methodKey(method.getClassName(), method.getMethodName());
+        }
+        if (source instanceof ClassSource) {
+            return ((ClassSource) source).getClassName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+package scheduling;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import configs.Configs;
+import metrics.JsonReports;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class DurationStore {
+    private static final double SMOOTHING = 0.5;
+
+    private static DurationStore instance;
+
+    private final Path file;
+    private final ConcurrentMap<String, Double> millis = new ConcurrentHashMap<>();
+
+    private DurationStore(Path file) {
+        this.file = file;
+        millis.putAll(read(file));
+    }
+
+    public static synchronized DurationStore instance() {
+        if (instance == null) {
+            instance = new DurationStore(Paths.get(Configs.get().getDurationStoreFile()));
+        }
+        return instance;
+    }
+
+    public OptionalDouble get(String key) {
+        Double value = millis.get(key);
+        return value == null ? OptionalDouble.empty() : OptionalDouble.of(value);
+    }
+
+    public double estimate(String key, double fallback) {
+        return get(key).orElse(fallback);
+    }
+
+    public double mean(String keyPrefix) {
+        return millis.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(keyPrefix))
+                .mapToDouble(Map.Entry::getValue)
+                .average()
+                .orElse(0);
+    }
+
+    public void update(Map<String, Double> observed) {
+        observed.forEach((key, value) -> millis.merge(key, value,
+                (previous, current) -> previous * (1 - SMOOTHING) + current * SMOOTHING));
+    }
+
+    public void save() {
+        JsonReports.write(file, new TreeMap<>(millis));
+    }
+
+    static Map<String, Double> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Map.of();
+        }
+        try {
+            return new ObjectMapper().readValue(file.toFile(), new TypeReference<Map<String, Double>>() {
+            });
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable test duration store " + file + ": " + e.getMessage());
+            return Map.of();
+        }
+    }
+
+    static String methodKey(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+}
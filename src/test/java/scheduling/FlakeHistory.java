@@ -0,0 +1,158 @@
+package scheduling;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import metrics.JsonReports;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pass/fail history of retried tests over the last {@code flakeWindow} runs. A test is quarantined
+ * once enough of its recent runs needed a retry or failed while other runs passed; a test that only
+ * ever fails is broken rather than flaky and keeps running in the main suite.
+ */
+public final class FlakeHistory {
+    private static final double SMOOTHING = 0.5;
+
+    private static FlakeHistory instance;
+
+    private final Path file;
+    private final Shard shard;
+    private final Path reportFile;
+    private final int window;
+    private final int minRuns;
+    private final double threshold;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> recorded = ConcurrentHashMap.newKeySet();
+
+    public enum Outcome {
+        PASSED,
+        FLAKY,
+        FAILED
+    }
+
+    public record Entry(List<Outcome> outcomes, double meanMillis, double retryMillis) {
+    }
+
+    private FlakeHistory(TestPropertiesConfig config) {
+        this(Paths.get(config.getFlakeHistoryFile()), Paths.get(config.getQuarantineReportFile()),
+                config.getFlakeWindow(), config.getQuarantineMinRuns(), config.getQuarantineThreshold());
+    }
+
+    FlakeHistory(Path file, Path reportFile, int window, int minRuns, double threshold) {
+        this.file = file;
+        this.shard = Shard.current();
+        this.reportFile = reportFile;
+        this.window = Math.max(1, window);
+        this.minRuns = minRuns;
+        this.threshold = threshold;
+        entries.putAll(read(file));
+    }
+
+    public static synchronized FlakeHistory instance() {
+        if (instance == null) {
+            instance = new FlakeHistory(Configs.get());
+        }
+        return instance;
+    }
+
+    public void record(String key, Outcome outcome, double lastAttemptMillis, double failedAttemptMillis) {
+        recorded.add(key);
+        entries.merge(key, new Entry(List.of(outcome), lastAttemptMillis, failedAttemptMillis), (previous, current) -> {
+            List<Outcome> outcomes = new ArrayList<>(previous.outcomes());
+            outcomes.add(outcome);
+            if (outcomes.size() > window) {
+                outcomes.subList(0, outcomes.size() - window).clear();
+            }
+            return new Entry(outcomes,
+                    previous.meanMillis() * (1 - SMOOTHING) + lastAttemptMillis * SMOOTHING,
+                    previous.retryMillis() * (1 - SMOOTHING) + failedAttemptMillis * SMOOTHING);
+        });
+    }
+
+    public boolean isQuarantined(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.outcomes().size() < minRuns) {
+            return false;
+        }
+        boolean everPassed = entry.outcomes().stream().anyMatch(outcome -> outcome != Outcome.FAILED);
+        return everPassed && flakeRate(entry) >= threshold;
+    }
+
+    Entry entry(String key) {
+        return entries.get(key);
+    }
+
+    public void save() {
+        if (shard.isSharded()) {
+            // each test runs in exactly one shard, so a shard only hands its own entries to ShardMerge
+            Map<String, Entry> own = new TreeMap<>();
+            recorded.forEach(key -> own.put(key, entries.get(key)));
+            JsonReports.write(shard.resolve(file.toString()), own);
+            JsonReports.write(shard.resolve(reportFile.toString()), quarantineReport());
+        } else {
+            saveMerged();
+        }
+    }
+
+    void saveMerged() {
+        JsonReports.write(file, new TreeMap<>(entries));
+        JsonReports.write(reportFile, quarantineReport());
+    }
+
+    /** Takes over the entries a shard recorded; they already extend the history that shard started from. */
+    void merge(Map<String, Entry> shardEntries) {
+        entries.putAll(shardEntries);
+    }
+
+    static Map<String, Entry> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Map.of();
+        }
+        try {
+            return new ObjectMapper().readValue(file.toFile(), new TypeReference<Map<String, Entry>>() {
+            });
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable flake history " + file + ": " + e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private List<Map<String, Object>> quarantineReport() {
+        List<Map<String, Object>> report = new ArrayList<>();
+        entries.entrySet().stream()
+                .filter(entry -> isQuarantined(entry.getKey()))
+                // the tests that waste the most time on retries come first
+                .sorted(Comparator.comparingDouble((Map.Entry<String, Entry> entry) ->
+                        -flakeRate(entry.getValue()) * entry.getValue().retryMillis()).thenComparing(Map.Entry::getKey))
+                .forEach(entry -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("test", entry.getKey());
+                    row.put("flakeRate", flakeRate(entry.getValue()));
+                    row.put("runs", entry.getValue().outcomes().size());
+                    row.put("meanMs", entry.getValue().meanMillis());
+                    row.put("retryMs", entry.getValue().retryMillis());
+                    report.add(row);
+                });
+        return report;
+    }
+
+    private static double flakeRate(Entry entry) {
+        long unstable = entry.outcomes().stream().filter(outcome -> outcome != Outcome.PASSED).count();
+        return (double) unstable / entry.outcomes().size();
+    }
+}
@@ -0,0 +1,103 @@
+package scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static scheduling.FlakeHistory.Outcome.FAILED;
+import static scheduling.FlakeHistory.Outcome.FLAKY;
+import static scheduling.FlakeHistory.Outcome.PASSED;
+
+@Tag("unit")
+class FlakeHistoryTests {
+    private static final String KEY = "tests.SomeTests#someTest";
+
+    @TempDir
+    Path dir;
+
+    private FlakeHistory history(int window, int minRuns, double threshold) {
+        return new FlakeHistory(dir.resolve("flake-history.json"), dir.resolve("quarantine.json"),
+                window, minRuns, threshold);
+    }
+
+    private static void record(FlakeHistory history, FlakeHistory.Outcome... outcomes) {
+        for (FlakeHistory.Outcome outcome : outcomes) {
+            history.record(KEY, outcome, 100, 50);
+        }
+    }
+
+    @Test
+    @DisplayName("Unknown tests are not quarantined")
+    void unknownTestTest() {
+        assertThat(history(10, 1, 0.1).isQuarantined(KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Fewer runs than quarantineMinRuns never quarantine")
+    void minRunsTest() {
+        FlakeHistory history = history(10, 4, 0.3);
+        record(history, FLAKY, FLAKY, PASSED);
+        assertThat(history.isQuarantined(KEY)).isFalse();
+        record(history, PASSED);
+        assertThat(history.isQuarantined(KEY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("The flake rate is compared inclusively against the threshold")
+    void thresholdTest() {
+        FlakeHistory atThreshold = history(10, 1, 0.25);
+        record(atThreshold, FLAKY, PASSED, PASSED, PASSED);
+        assertThat(atThreshold.isQuarantined(KEY)).isTrue();
+
+        FlakeHistory belowThreshold = history(10, 1, 0.3);
+        record(belowThreshold, FLAKY, PASSED, PASSED, PASSED);
+        assertThat(belowThreshold.isQuarantined(KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Failures count towards the flake rate once the test has passed")
+    void failuresWithPassesTest() {
+        FlakeHistory history = history(10, 1, 0.5);
+        record(history, FAILED, PASSED);
+        assertThat(history.isQuarantined(KEY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("A test that only ever fails is broken, not flaky")
+    void alwaysFailingTest() {
+        FlakeHistory history = history(10, 1, 0.1);
+        record(history, FAILED, FAILED, FAILED);
+        assertThat(history.isQuarantined(KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Only the last flakeWindow outcomes are kept")
+    void windowTest() {
+        FlakeHistory history = history(3, 1, 0.5);
+        record(history, FLAKY, FLAKY, FLAKY);
+        assertThat(history.isQuarantined(KEY)).isTrue();
+
+        record(history, PASSED, PASSED);
+        assertThat(history.entry(KEY).outcomes()).containsExactly(FLAKY, PASSED, PASSED);
+        assertThat(history.isQuarantined(KEY)).isFalse();
+
+        record(history, PASSED);
+        assertThat(history.entry(KEY).outcomes()).containsExactly(PASSED, PASSED, PASSED);
+    }
+
+    @Test
+    @DisplayName("Saved outcomes are read back by the next run")
+    void saveAndReadTest() {
+        FlakeHistory history = history(5, 2, 0.5);
+        record(history, FLAKY, PASSED);
+        history.saveMerged();
+
+        FlakeHistory next = history(5, 2, 0.5);
+        assertThat(next.entry(KEY).outcomes()).containsExactly(FLAKY, PASSED);
+        assertThat(next.isQuarantined(KEY)).isTrue();
+    }
+}
@@ -0,0 +1,18 @@
+package scheduling;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+
+public class LongestFirstClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        DurationStore store = DurationStore.instance();
+        context.getClassDescriptors().sort(Comparator
+                .comparingDouble((ClassDescriptor testClass) -> -store.estimate(testClass.getTestClass().getName(), Double.MAX_VALUE))
+                .thenComparing(testClass -> testClass.getTestClass().getName()));
+    }
+}
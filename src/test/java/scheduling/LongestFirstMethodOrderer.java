@@ -0,0 +1,35 @@
+package scheduling;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+public class LongestFirstMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        DurationStore store = DurationStore.instance();
+        String className = context.getTestClass().getName();
+        double unknown = store.mean(className + "#");
+
+        context.getMethodDescriptors().sort(Comparator
+                .comparingDouble((MethodDescriptor method) ->
+                        -store.estimate(DurationStore.methodKey(className, method.getMethod().getName()), unknown))
+                .thenComparingInt(LongestFirstMethodOrderer::order)
+                .thenComparing(method -> method.getMethod().getName()));
+    }
+
+    @Override
+    public Optional<ExecutionMode> getDefaultExecutionMode() {
+        return Optional.empty();
+    }
+
+    private static int order(MethodDescriptor method) {
+        return method.findAnnotation(Order.class).map(Order::value).orElse(Order.DEFAULT);
+    }
+}
@@ -0,0 +1,51 @@
+package scheduling;
+
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import metrics.JsonReports;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Lists the tests a quarantine run actually executed and which of them the flake history does not
+ * quarantine; the quarantinedTest task fails when that second list is not empty.
+ */
+public class QuarantineAudit implements TestExecutionListener {
+    private final TestPropertiesConfig config = Configs.get();
+    private final Set<String> executed = new ConcurrentSkipListSet<>();
+    private final Set<String> notQuarantined = new ConcurrentSkipListSet<>();
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        TestSource source = testIdentifier.getSource().orElse(null);
+        if (!config.isRunQuarantined() || !testIdentifier.isTest() || !(source instanceof MethodSource)) {
+            return;
+        }
+        MethodSource method = (MethodSource) source;
+        String key = DurationStore.methodKey(method.getClassName(), method.getMethodName());
+        executed.add(key);
+        if (!FlakeHistory.instance().isQuarantined(key)) {
+            notQuarantined.add(key);
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!config.isRunQuarantined()) {
+            return;
+        }
+        Map<String, Object> audit = new LinkedHashMap<>();
+        audit.put("executed", new TreeSet<>(executed));
+        audit.put("notQuarantined", new TreeSet<>(notQuarantined));
+        JsonReports.write(Shard.current().resolve(config.getQuarantineAuditFile()), audit);
+    }
+}
@@ -0,0 +1,29 @@
+package scheduling;
+
+import configs.Configs;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * In the quarantine run, keeps only the test methods the flake history has quarantined, whatever
+ * extensions their classes register; classes left without tests are pruned before they start a browser.
+ */
+public class QuarantineFilter implements PostDiscoveryFilter {
+    private final boolean runQuarantined = Configs.get().isRunQuarantined();
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (!runQuarantined) {
+            return FilterResult.included("not a quarantine run");
+        }
+        if (!(descriptor.getSource().orElse(null) instanceof MethodSource)) {
+            return FilterResult.included("container");
+        }
+        MethodSource method = (MethodSource) descriptor.getSource().get();
+        return FlakeHistory.instance().isQuarantined(DurationStore.methodKey(method.getClassName(), method.getMethodName()))
+                ? FilterResult.included("quarantined as flaky")
+                : FilterResult.excluded("stable tests are skipped in the quarantine run");
+    }
+}
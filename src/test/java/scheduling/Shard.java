@@ -0,0 +1,58 @@
+package scheduling;
+
+import configs.Configs;
+import configs.TestPropertiesConfig;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public final class Shard {
+    static final String DIRECTORY_PREFIX = "shard-";
+
+    private final int index;
+    private final int total;
+    private final Path outputDir;
+
+    private Shard(int index, int total, Path outputDir) {
+        if (total < 1 || index < 0 || index >= total) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + total);
+        }
+        this.index = index;
+        this.total = total;
+        this.outputDir = outputDir;
+    }
+
+    public static Shard current() {
+        TestPropertiesConfig config = Configs.get();
+        return new Shard(config.getShardIndex(), config.getShardTotal(), Paths.get(config.getShardOutputDir()));
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public int total() {
+        return total;
+    }
+
+    public boolean isSharded() {
+        return total > 1;
+    }
+
+    public Path outputDir() {
+        return outputDir.resolve(directoryName(index));
+    }
+
+    /**
+     * Keeps the configured report path for unsharded runs and moves the file into this shard's
+     * output directory otherwise, so parallel shards never overwrite each other's reports.
+     */
+    public Path resolve(String configuredFile) {
+        Path file = Paths.get(configuredFile);
+        return isSharded() ? outputDir().resolve(file.getFileName()) : file;
+    }
+
+    static String directoryName(int index) {
+        return DIRECTORY_PREFIX + index;
+    }
+}
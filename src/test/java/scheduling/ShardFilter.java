@@ -0,0 +1,109 @@
+package scheduling;
+
+import configs.Configs;
+import configs.ShardStrategy;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps only the tests assigned to the current shard. Assignment depends on nothing but the test keys
+ * (and, for the duration strategy, the shared duration store), so every shard computes the same split.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+    private final Shard shard = Shard.current();
+    private final ShardStrategy strategy = Configs.get().getShardStrategy();
+
+    private TestDescriptor plannedRoot;
+    private Map<String, Integer> plan;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (!shard.isSharded()) {
+            return FilterResult.included("sharding disabled");
+        }
+        String key = key(descriptor);
+        int assigned;
+        switch (strategy) {
+            case DURATION:
+                assigned = plan(descriptor).getOrDefault(key, hash(key));
+                break;
+            case HASH:
+            default:
+                assigned = hash(key);
+                break;
+        }
+        return assigned == shard.index()
+                ? FilterResult.included("assigned to shard " + assigned)
+                : FilterResult.excluded("assigned to shard " + assigned);
+    }
+
+    private int hash(String key) {
+        return Math.floorMod(key.hashCode(), shard.total());
+    }
+
+    private synchronized Map<String, Integer> plan(TestDescriptor descriptor) {
+        TestDescriptor root = descriptor;
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+        if (root != plannedRoot) {
+            plan = longestProcessingTimeFirst(root);
+            plannedRoot = root;
+        }
+        return plan;
+    }
+
+    private Map<String, Integer> longestProcessingTimeFirst(TestDescriptor root) {
+        DurationStore store = DurationStore.instance();
+        Map<String, Double> estimates = new HashMap<>();
+        root.getDescendants().stream()
+                .filter(descriptor -> descriptor.getChildren().isEmpty())
+                .map(ShardFilter::key)
+                .forEach(key -> estimates.put(key, estimate(store, key)));
+
+        List<String> keys = new ArrayList<>(estimates.keySet());
+        keys.sort(Comparator.comparingDouble((String key) -> -estimates.get(key)).thenComparing(key -> key));
+
+        double[] load = new double[shard.total()];
+        Map<String, Integer> assignments = new HashMap<>();
+        for (String key : keys) {
+            int lightest = 0;
+            for (int i = 1; i < load.length; i++) {
+                if (load[i] < load[lightest]) {
+                    lightest = i;
+                }
+            }
+            load[lightest] += estimates.get(key);
+            assignments.put(key, lightest);
+        }
+        return assignments;
+    }
+
+    private static double estimate(DurationStore store, String key) {
+        int separator = key.indexOf('#');
+        double classMean = separator < 0 ? 0 : store.mean(key.substring(0, separator + 1));
+        return store.estimate(key, classMean > 0 ? classMean : 1);
+    }
+
+    private static String key(TestDescriptor descriptor) {
+        TestSource source = descriptor.getSource().orElse(null);
+        if (source instanceof MethodSource) {
+            MethodSource method = (MethodSource) source;
+            return DurationStore.methodKey(method.getClassName(), method.getMethodName());
+        }
+        if (source instanceof ClassSource) {
+            return ((ClassSource) source).getClassName();
+        }
+        return descriptor.getUniqueId().toString();
+    }
+}
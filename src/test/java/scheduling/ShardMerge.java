@@ -0,0 +1,144 @@
+package scheduling;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import metrics.JsonReports;
+import metrics.LatencyHistogram;
+import metrics.LocatorProfile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Combines the timing data of all shards under shardOutputDir: step and wait summaries are merged
+ * bucket by bucket into the configured report files, and the per-shard duration observations are
+ * folded into the duration store once, so the next split is planned from complete data. Flake history
+ * entries recorded by the shards replace the ones they extend, and the quarantine report is rebuilt. The
+ * per-shard locator reports are combined per framework and page object.
+ */
+public final class ShardMerge {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ShardMerge() {
+    }
+
+    public static void main(String[] args) {
+        TestPropertiesConfig config = Configs.get();
+        List<Path> shardDirs = shardDirs(Paths.get(config.getShardOutputDir()));
+        if (shardDirs.isEmpty()) {
+            System.out.println("No shard output found under " + config.getShardOutputDir());
+            return;
+        }
+
+        mergeSummaries(shardDirs, Paths.get(config.getStepTimingsFile()));
+        mergeSummaries(shardDirs, Paths.get(config.getWaitTimesFile()));
+        mergeDurations(shardDirs, Paths.get(config.getDurationStoreFile()));
+        mergeFlakeHistory(shardDirs, Paths.get(config.getFlakeHistoryFile()));
+        mergeLocatorReports(shardDirs, Paths.get(config.getLocatorReportFile()));
+        System.out.printf("Merged timing data of %d shards%n", shardDirs.size());
+    }
+
+    private static List<Path> shardDirs(Path root) {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> dirs = Files.list(root)) {
+            return dirs.filter(Files::isDirectory)
+                    .filter(dir -> dir.getFileName().toString().startsWith(Shard.DIRECTORY_PREFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void mergeSummaries(List<Path> shardDirs, Path target) {
+        List<Object> reports = new ArrayList<>();
+        for (Path dir : shardDirs) {
+            Path file = dir.resolve(target.getFileName());
+            if (Files.isRegularFile(file)) {
+                try {
+                    reports.add(MAPPER.readValue(file.toFile(), new TypeReference<Map<String, Object>>() {
+                    }));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not read shard report " + file, e);
+                }
+            }
+        }
+        if (!reports.isEmpty()) {
+            JsonReports.write(target, merge(reports));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object merge(List<Object> nodes) {
+        List<Map<String, Object>> maps = nodes.stream()
+                .map(node -> (Map<String, Object>) node)
+                .collect(Collectors.toList());
+        if (maps.get(0).containsKey("histogram")) {
+            return LatencyHistogram.merge(maps).summary();
+        }
+
+        Map<String, List<Object>> children = new TreeMap<>();
+        maps.forEach(map -> map.forEach((key, value) -> children.computeIfAbsent(key, k -> new ArrayList<>()).add(value)));
+        Map<String, Object> merged = new TreeMap<>();
+        children.forEach((key, values) -> merged.put(key, merge(values)));
+        return merged;
+    }
+
+    private static void mergeDurations(List<Path> shardDirs, Path storeFile) {
+        // a class split across shards ran in pieces, so its observed time is the sum of the pieces
+        Map<String, Double> observed = new TreeMap<>();
+        shardDirs.forEach(dir -> DurationStore.read(dir.resolve(storeFile.getFileName()))
+                .forEach((key, millis) -> observed.merge(key, millis, Double::sum)));
+        if (observed.isEmpty()) {
+            return;
+        }
+        DurationStore store = DurationStore.instance();
+        store.update(observed);
+        store.save();
+    }
+
+    private static void mergeLocatorReports(List<Path> shardDirs, Path target) {
+        List<Map<String, Map<String, List<Map<String, Object>>>>> reports = new ArrayList<>();
+        for (Path dir : shardDirs) {
+            Path file = dir.resolve(target.getFileName());
+            if (Files.isRegularFile(file)) {
+                try {
+                    reports.add(MAPPER.readValue(file.toFile(),
+                            new TypeReference<Map<String, Map<String, List<Map<String, Object>>>>>() {
+                            }));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not read shard report " + file, e);
+                }
+            }
+        }
+        if (!reports.isEmpty()) {
+            JsonReports.write(target, LocatorProfile.mergeReports(reports));
+        }
+    }
+
+    private static void mergeFlakeHistory(List<Path> shardDirs, Path historyFile) {
+        List<Map<String, FlakeHistory.Entry>> shardEntries = shardDirs.stream()
+                .map(dir -> FlakeHistory.read(dir.resolve(historyFile.getFileName())))
+                .filter(entries -> !entries.isEmpty())
+                .collect(Collectors.toList());
+        if (shardEntries.isEmpty()) {
+            return;
+        }
+        FlakeHistory history = FlakeHistory.instance();
+        shardEntries.forEach(history::merge);
+        history.saveMerged();
+    }
+}
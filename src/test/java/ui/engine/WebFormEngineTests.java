@@ -0,0 +1,186 @@
+package ui.engine;
+
+import capture.FailureCaptureExtension;
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import extensions.EngineTest;
+import fixtures.FixtureServer;
+import fixtures.Submission;
+import fixtures.SubmissionSink;
+import fixtures.UploadFixtures;
+import metrics.StepTimingExtension;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import pages.FormSnapshot;
+import pages.HomePage;
+import pages.WebFormPage;
+import scheduling.LongestFirstMethodOrderer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("engines")
+@ExtendWith({FailureCaptureExtension.class, StepTimingExtension.class})
+@Execution(ExecutionMode.CONCURRENT)
+@TestMethodOrder(LongestFirstMethodOrderer.class)
+class WebFormEngineTests {
+    TestPropertiesConfig config = Configs.get();
+
+    private static final String DROPDOWN_SELECT_TEXT = "Open this select menu";
+    private static final Map<String, Object> FORM_VALUES = Map.of(
+            "my-text", "username",
+            "my-password", "password",
+            "my-textarea", "Lorem ipsum",
+            "my-select", "2",
+            "my-datalist", "Seattle",
+            "my-check-1", false,
+            "my-check-2", true,
+            "my-radio-2", true);
+    private static final Duration SUBMISSION_TIMEOUT = Duration.ofSeconds(10);
+
+    @EngineTest
+    @Order(1)
+    @DisplayName("Check Web form is reachable from Home page")
+    void homePageNavigationTest(HomePage homePage) {
+        homePage.open();
+        WebFormPage webFormPage = homePage.openWebForm();
+
+        assertEquals("Text input", webFormPage.snapshot().field("my-text").orElseThrow().label().strip());
+    }
+
+    @EngineTest
+    @Order(2)
+    @DisplayName("Check web form field names")
+    void webFormFieldNamesTest(WebFormPage webFormPage) {
+        webFormPage.open();
+        FormSnapshot snapshot = webFormPage.snapshot();
+        List<String> formFields = snapshot.labelTexts("form-label w-100").stream()
+                .map(String::strip)
+                .collect(Collectors.toList());
+        List<String> checkBoxFields = snapshot.labelTexts("form-check-label w-100").stream()
+                .map(String::strip)
+                .collect(Collectors.toList());
+
+        assertAll (
+                () -> assertEquals("Text input", formFields.get(0), "Text Input Field Name"),
+                () -> assertEquals("Password", formFields.get(1), "Password Input Field Name"),
+                () -> assertEquals("Textarea", formFields.get(2), "Disabled Input Field Name"),
+                () -> assertEquals("Disabled input", formFields.get(3), "Disabled Input Field Name"),
+                () -> assertEquals("Readonly input", formFields.get(4), "Readonly Input Field Name"),
+                () -> assertEquals("Dropdown (select)", formFields.get(5).split("\n")[0].trim(),
+                        "Dropdown (select) Field Name"),
+                () -> assertEquals("Dropdown (datalist)", formFields.get(6), "Dropdown (datalist) Field Name"),
+                () -> assertEquals("File input", formFields.get(7), "File Input Field Name"),
+                () -> assertEquals("Checked checkbox", checkBoxFields.get(0), "Checked Checkbox Field Name"),
+                () -> assertEquals("Default checkbox", checkBoxFields.get(1), "Default Checkbox Field Name"),
+                () -> assertEquals("Checked radio", checkBoxFields.get(2), "Checked Radio Field Name"),
+                () -> assertEquals("Default radio", checkBoxFields.get(3), "Default Radio Field Name"),
+                () -> assertEquals("Color picker", formFields.get(8), "Color Picker Field Name"),
+                () -> assertEquals("Date picker", formFields.get(9), "Date Picker Field Name"),
+                () -> assertEquals("Example range", formFields.get(10), "Range Input Field Name")
+        );
+        assertTrue(snapshot.field("my-disabled").orElseThrow().disabled());
+        assertTrue(snapshot.field("my-readonly").orElseThrow().readOnly());
+        assertTrue(snapshot.field("my-check-1").orElseThrow().checked());
+    }
+
+    @EngineTest
+    @Order(3)
+    @DisplayName("Check user field")
+    void textInputTest(HomePage homePage) {
+        homePage.open();
+        WebFormPage webFormPage = homePage.openWebForm();
+
+        webFormPage.inputLogin(config.getUsername());
+
+        assertThat(webFormPage.getTextValue()).isNotEmpty();
+    }
+
+    @EngineTest
+    @Order(4)
+    @DisplayName("Check clear user field")
+    void textInputClearTest(HomePage homePage) {
+        homePage.open();
+        WebFormPage webFormPage = homePage.openWebForm();
+
+        webFormPage.inputLogin(config.getUsername());
+        webFormPage.clearTextValue();
+
+        assertThat(webFormPage.getTextValue()).isEmpty();
+    }
+
+    @EngineTest
+    @Order(5)
+    @DisplayName("Check password field")
+    void passwordInputTest(HomePage homePage) {
+        homePage.open();
+        WebFormPage webFormPage = homePage.openWebForm();
+
+        webFormPage.inputPassword(config.getPassword());
+
+        assertThat(webFormPage.getTextPassword()).isNotEmpty();
+    }
+
+    @EngineTest
+    @Order(6)
+    @DisplayName("Check clear password field")
+    void passwordInputClearTest(HomePage homePage) {
+        homePage.open();
+        WebFormPage webFormPage = homePage.openWebForm();
+
+        webFormPage.inputPassword(config.getPassword());
+        webFormPage.clearPasswordValue();
+
+        assertThat(webFormPage.getTextPassword()).isEmpty();
+    }
+
+    @EngineTest
+    @Order(7)
+    @DisplayName("Check Dropdown (select) menu")
+    void dropdownSelectTest(WebFormPage webFormPage) {
+        webFormPage.open();
+        assertEquals(DROPDOWN_SELECT_TEXT, webFormPage.getSelectedOption());
+
+        webFormPage.selectOption("3");
+
+        assertEquals("3", webFormPage.getSelectedOption());
+    }
+
+    @EngineTest
+    @Order(8)
+    @DisplayName("Check File input field")
+    void fileInputTest(WebFormPage webFormPage) throws IOException {
+        String correlationId = UUID.randomUUID().toString();
+        SubmissionSink sink = FixtureServer.start().sink();
+        webFormPage.open();
+
+        webFormPage.uploadFile(UploadFixtures.bannerImage());
+        webFormPage.submitTo(sink.url(), correlationId);
+
+        Submission.UploadedFile uploadedFile = sink.await(correlationId, SUBMISSION_TIMEOUT).file("my-file");
+        assertEquals("STE In Banner.jpg", uploadedFile.fileName());
+        assertEquals(Files.size(UploadFixtures.bannerImage()), uploadedFile.size());
+    }
+
+    @EngineTest
+    @Order(9)
+    @DisplayName("Check batched form fill")
+    void batchFillFormTest(WebFormPage webFormPage) {
+        webFormPage.open();
+        webFormPage.fillForm(FORM_VALUES);
+        Map<String, Object> actualValues = webFormPage.readForm();
+
+        assertThat(actualValues).containsAllEntriesOf(FORM_VALUES);
+        assertThat(actualValues).containsEntry("my-radio-1", false);
+    }
+}
@@ -0,0 +1,36 @@
+package ui.playwright;
+
+import configs.Configs;
+import configs.TestPropertiesConfig;
+import load.FormDataset;
+import load.FormLoadDriver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@EnabledIfSystemProperty(named = "loadDataset", matches = ".+")
+class FormLoadTests {
+    TestPropertiesConfig config = Configs.get();
+
+    @Test
+    @DisplayName("Submit web form rows from dataset under load")
+    void formSubmissionLoadTest() throws Exception {
+        FormLoadDriver loadDriver = new FormLoadDriver(config);
+
+        FormLoadDriver.Result result;
+        try (Stream<Map<String, Object>> rows = FormDataset.stream(Path.of(config.getLoadDataset()))) {
+            result = loadDriver.run(rows);
+        }
+
+        assertThat(result.completed()).isPositive();
+        assertThat(result.failed()).as("failures by cause: %s", result.failures()).isZero();
+    }
+}
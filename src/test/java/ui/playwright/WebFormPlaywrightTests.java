@@ -1,27 +1,45 @@
 package ui.playwright;
 
+import capture.FailureCaptureExtension;
 import com.microsoft.playwright.*;
+import configs.Configs;
 import configs.TestPropertiesConfig;
-import org.aeonbits.owner.ConfigFactory;
+import extensions.PlaywrightExtension;
+import extensions.RetryingTest;
+import fixtures.FixtureServer;
+import fixtures.Submission;
+import fixtures.SubmissionSink;
+import fixtures.UploadFixtures;
+import metrics.StepTimingExtension;
+import metrics.UploadProbe;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.openqa.selenium.support.Color;
-import pages.playwright.HomePage;
+import pages.playwright.Waits;
 import pages.playwright.WebFormPage;
+import scheduling.LongestFirstMethodOrderer;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @Tag("playwright")
-@TestInstance(TestInstance.Lifecycle.PER_CLASS)
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith({PlaywrightExtension.class, FailureCaptureExtension.class, StepTimingExtension.class})
+@Execution(ExecutionMode.CONCURRENT)
+@TestMethodOrder(LongestFirstMethodOrderer.class)
 class WebFormPlaywrightTests {
-    TestPropertiesConfig config = ConfigFactory.create(TestPropertiesConfig.class, System.getProperties());
-    private static final String WEB_FORM_URL = "https://bonigarcia.dev/selenium-webdriver-java/web-form.html";
+    TestPropertiesConfig config = Configs.get();
+    private final String webFormUrl = config.getBaseUrl() + "web-form.html";
     private static final String BIG_TEXT = "Lorem ipsum dolor sit amet consectetur adipiscing elit habitant metus, " +
             "tincidunt maecenas posuere sollicitudin augue duis bibendum mauris eu, et dignissim magna ad nascetur suspendisse quis nunc. " +
             "Fames est ligula molestie aliquam pretium bibendum nullam, sociosqu maecenas mus etiam consequat ornare leo, sem mattis " +
@@ -31,40 +49,14 @@ class WebFormPlaywrightTests {
     private static final String DROPDOWN_SELECT_TEXT = "Open this select menu";
     private static final String EMPTY_VALUE = "";
     private static final String CURRENT_DATE = "05/05/2025";
+    private static final Duration SUBMISSION_TIMEOUT = Duration.ofSeconds(10);
 
-    static Playwright playwright;
-    static Browser browser;
-
-    BrowserContext context;
     Page page;
 
-    @BeforeAll
-    static void launchBrowser() {
-        playwright = Playwright.create();
-        browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(false));
-    }
-
-    @AfterAll
-    static void closeBrowser() {
-        playwright.close();
-    }
-
     @BeforeEach
-    void createContextAndPage() {
-        context = browser.newContext();
-        context.tracing().start(new Tracing.StartOptions()
-                .setScreenshots(true)
-                .setSnapshots(true)
-                .setSources(true));
-        page = context.newPage();
-        page.navigate(WEB_FORM_URL);
-    }
-
-    @AfterEach
-    void closeContext() {
-        context.tracing().stop(new Tracing.StopOptions()
-                .setPath(Paths.get("trace.zip")));
-        context.close();
+    void openWebForm(Page page) {
+        this.page = page;
+        page.navigate(webFormUrl);
     }
 
     @Test
@@ -85,7 +77,7 @@ class WebFormPlaywrightTests {
         assertEquals("Practice site", titleText.innerText());
     }
 
-    @Test
+    @RetryingTest
     @Order(3)
     @DisplayName("Check icon")
     void imageIconTest() {
@@ -93,8 +85,8 @@ class WebFormPlaywrightTests {
 
         assertTrue(imageIcon.isVisible());
 
-        imageIcon.click();
-        assertEquals("https://github.com/bonigarcia/selenium-webdriver-java", page.url());
+        Locator imageIconLink = imageIcon.locator("xpath=..");
+        assertEquals("https://github.com/bonigarcia/selenium-webdriver-java", imageIconLink.getAttribute("href"));
     }
 
     @Test
@@ -106,88 +98,6 @@ class WebFormPlaywrightTests {
         assertEquals("Web form", webFormTitleText.innerText());
     }
 
-    @Test
-    @Order(5)
-    @DisplayName("Check web form field names")
-    void webFormFieldNamesTest() {
-        var formFields = page.locator(".form-label.w-100").allInnerTexts();
-        var checkBoxFields = page.locator(".form-check-label.w-100").allInnerTexts();
-
-        assertEquals("Text input", formFields.get(0), "Text Input Field Name");
-        assertEquals("Password", formFields.get(1), "Password Input Field Name");
-        assertEquals("Textarea", formFields.get(2), "Disabled Input Field Name");
-        assertEquals("Disabled input", formFields.get(3), "Disabled Input Field Name");
-        assertEquals("Readonly input", formFields.get(4), "Readonly Input Field Name");
-        assertEquals("Dropdown (select)", formFields.get(5).split("\n")[0].trim(), "Dropdown (select) Field Name");
-        assertEquals("Dropdown (datalist)", formFields.get(6), "Dropdown (datalist) Field Name");
-        assertEquals("File input", formFields.get(7), "File Input Field Name");
-        assertEquals("Checked checkbox", checkBoxFields.get(0), "Checked Checkbox Field Name");
-        assertEquals("Default checkbox", checkBoxFields.get(1), "Default Checkbox Field Name");
-        assertEquals("Checked radio", checkBoxFields.get(2), "Checked Radio Field Name");
-        assertEquals("Default radio", checkBoxFields.get(3), "Default Radio Field Name");
-        assertEquals("Color picker", formFields.get(8), "Color Picker Field Name");
-        assertEquals("Date picker", formFields.get(9), "Date Picker Field Name");
-        assertEquals("Example range ", formFields.get(10), "Range Input Field Name");
-    }
-
-    @Test
-    @Order(6)
-    @DisplayName("Check user field")
-    void textInputTest() {
-        HomePage homePage = new HomePage(page);
-        homePage.open();
-        WebFormPage webFormPage = homePage.openWebFormPage();
-
-        webFormPage.inputLogin(config.getUsername());
-        String actualText = page.inputValue("#my-text-id");
-
-        assertThat(actualText).isNotEmpty();
-    }
-
-    @Test
-    @Order(7)
-    @DisplayName("Check clear user field")
-    void textInputClearTest() {
-        HomePage homePage = new HomePage(page);
-        homePage.open();
-        WebFormPage webFormPage = homePage.openWebFormPage();
-
-        webFormPage.inputLogin(config.getUsername());
-        webFormPage.clearTextValue();
-        String actualText = page.inputValue("#my-text-id");
-
-        assertThat(actualText).isEmpty();
-    }
-
-    @Test
-    @Order(8)
-    @DisplayName("Check password field")
-    void passwordInputTest() {
-        HomePage homePage = new HomePage(page);
-        homePage.open();
-        WebFormPage webFormPage = homePage.openWebFormPage();
-
-        webFormPage.inputPassword(config.getPassword());
-        String actualPassword = page.inputValue("css=[name='my-password']");
-
-        assertThat(actualPassword).isNotEmpty();
-    }
-
-    @Test
-    @Order(9)
-    @DisplayName("Check clear password field")
-    void passwordInputClearTest() {
-        HomePage homePage = new HomePage(page);
-        homePage.open();
-        WebFormPage webFormPage = homePage.openWebFormPage();
-
-        webFormPage.inputPassword(config.getPassword());
-        webFormPage.clearPasswordValue();
-        String actualPassword = page.inputValue("css=[name='my-password']");
-
-        assertThat(actualPassword).isEmpty();
-    }
-
     @Test
     @Order(10)
     @DisplayName("Check textarea field")
@@ -273,20 +183,6 @@ class WebFormPlaywrightTests {
         assertEquals(city, dropdownDataList.inputValue());
     }
 
-    @Test
-    @Order(17)
-    @DisplayName("Check File input field")
-    void fileInputTest() {
-        String selectFile = System.getProperty("user.dir") + "/src/main/resources/STE In Banner.jpg";
-
-        page.setInputFiles("css=input[name='my-file']", Path.of(selectFile));
-
-        Locator submit = page.locator("xpath=//button[text()='Submit']");
-        submit.click();
-
-        assertThat(page.url()).contains("STE+In+Banner.jpg");
-    }
-
     @Test
     @Order(18)
     @DisplayName("Check checked Checkbox")
@@ -378,6 +274,7 @@ class WebFormPlaywrightTests {
             page.mouse().up();
         }
 
+        new Waits(page).forValue("[name='my-range']", "10");
         assertThat(rangeElement.inputValue()).isEqualTo("10");
     }
 
@@ -388,19 +285,18 @@ class WebFormPlaywrightTests {
         Locator returnToIndexLink = page.locator("xpath=//a[@href = './index.html']");
 
         returnToIndexLink.click();
+        new Waits(page).forUrl("**/index.html");
 
-        assertEquals("https://bonigarcia.dev/selenium-webdriver-java/index.html", page.url());
+        assertEquals(config.getBaseUrl() + "index.html", page.url());
     }
 
-    @Test
+    @RetryingTest
     @Order(25)
     @DisplayName("Check Copyright link")
     void boniGarciaLinkTest() {
         Locator boniGarciaLink = page.locator("xpath=//a[@href = 'https://bonigarcia.dev/']");
 
-        boniGarciaLink.click();
-
-        assertEquals("https://bonigarcia.dev/", page.url());
+        assertEquals("https://bonigarcia.dev/", boniGarciaLink.getAttribute("href"));
     }
 
     @Test
@@ -416,15 +312,28 @@ class WebFormPlaywrightTests {
     @Order(27)
     @DisplayName("Check submit button and form submitted")
     void submitButtonTest() {
-        HomePage homePage = new HomePage(page);
-        homePage.open();
-        WebFormPage webFormPage = homePage.openWebFormPage();
-        webFormPage.submit();
+        String correlationId = UUID.randomUUID().toString();
+        SubmissionSink sink = FixtureServer.start().sink();
+        WebFormPage webFormPage = new WebFormPage(page);
+        webFormPage.submitTo(sink.url(), correlationId);
 
-        assertThat(page.url()).contains("https://bonigarcia.dev/selenium-webdriver-java/submitted-form.html");
+        Submission submission = sink.await(correlationId, SUBMISSION_TIMEOUT);
+
+        assertEquals("Readonly input", submission.field("my-readonly"));
+        assertEquals("#563d7c", submission.field("my-colors"));
+        assertEquals(webFormUrl, page.url());
+    }
+
+    @Test
+    @Order(29)
+    @DisplayName("Check large File input")
+    void largeFileInputTest() throws IOException {
+        assumeTrue(config.getUploadLargeFileMb() > 0, "uploadLargeFileMb is not set");
+        Path largeFile = UploadFixtures.largeFile(config.getUploadLargeFileMb());
+        WebFormPage webFormPage = new WebFormPage(page);
 
-        Locator formSubmittedText = page.locator("xpath=//h1[@class = 'display-6']");
+        UploadProbe.measure("playwright", largeFile, () -> webFormPage.uploadFile(largeFile));
 
-        assertEquals("Form submitted", formSubmittedText.innerText());
+        assertEquals(Files.size(largeFile), webFormPage.getSelectedFileSize());
     }
 }
@@ -1,18 +1,35 @@
 package ui.selenide;
 
-import com.codeborne.selenide.ElementsCollection;
+import capture.FailureCaptureExtension;
 import com.codeborne.selenide.SelenideElement;
+import configs.Configs;
 import configs.TestPropertiesConfig;
-import org.aeonbits.owner.ConfigFactory;
+import extensions.RecordingProxyExtension;
+import extensions.RetryingTest;
+import extensions.SelenideExtension;
+import fixtures.FixtureServer;
+import fixtures.Submission;
+import fixtures.SubmissionSink;
+import fixtures.UploadFixtures;
+import metrics.StepTimingExtension;
+import metrics.UploadProbe;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.Color;
-import pages.selenide.HomePage;
+import pages.selenide.Waits;
 import pages.selenide.WebFormPage;
+import scheduling.LongestFirstMethodOrderer;
 
-import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
 
 import static com.codeborne.selenide.Condition.*;
 import static com.codeborne.selenide.Condition.domProperty;
@@ -20,14 +37,17 @@ import static com.codeborne.selenide.Selenide.*;
 import static com.codeborne.selenide.WebDriverRunner.url;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestMethodOrder(LongestFirstMethodOrderer.class)
 @Tag("selenide")
+@ExtendWith({SelenideExtension.class, RecordingProxyExtension.class, FailureCaptureExtension.class, StepTimingExtension.class})
+@Execution(ExecutionMode.CONCURRENT)
 class WebFormSelenideTests {
-    TestPropertiesConfig config = ConfigFactory.create(TestPropertiesConfig.class, System.getProperties());
+    TestPropertiesConfig config = Configs.get();
+    private final String webFormUrl = config.getBaseUrl() + "web-form.html";
 
-    private static final String WEB_FORM_URL = "https://bonigarcia.dev/selenium-webdriver-java/web-form.html";
     private static final String BIG_TEXT = "Lorem ipsum dolor sit amet consectetur adipiscing elit habitant metus, " +
             "tincidunt maecenas posuere sollicitudin augue duis bibendum mauris eu, et dignissim magna ad nascetur suspendisse quis nunc. " +
             "Fames est ligula molestie aliquam pretium bibendum nullam, sociosqu maecenas mus etiam consequat ornare leo, sem mattis " +
@@ -35,11 +55,12 @@ class WebFormSelenideTests {
             "senectus porta leo, aenean potenti ante a nam.";
 
     private static final String DROPDOWN_SELECT_TEXT = "Open this select menu";
+    private static final Duration SUBMISSION_TIMEOUT = Duration.ofSeconds(10);
     private static final String VALUE_NAME = "value";
 
     @BeforeEach
     void start() {
-        open(WEB_FORM_URL);
+        open(webFormUrl);
     }
 
     @Test
@@ -60,7 +81,7 @@ class WebFormSelenideTests {
         assertEquals("Practice site", titleText.getText());
     }
 
-    @Test
+    @RetryingTest
     @Order(3)
     @DisplayName("Check icon")
     void imageIconTest() {
@@ -74,8 +95,8 @@ class WebFormSelenideTests {
         assertTrue(imageIcon.isDisplayed());
         assertEquals(80, width);
 
-        imageIcon.click();
-        assertEquals("https://github.com/bonigarcia/selenium-webdriver-java", url());
+        WebElement imageIconLink = imageIcon.findElement(By.xpath(".."));
+        assertEquals("https://github.com/bonigarcia/selenium-webdriver-java", imageIconLink.getDomAttribute("href"));
     }
 
     @Test
@@ -87,91 +108,6 @@ class WebFormSelenideTests {
         assertEquals("Web form", webFormTitleText.getText());
     }
 
-    @Test
-    @Order(5)
-    @DisplayName("Check web form field names")
-    void webFormFieldNamesTest() {
-        ElementsCollection formFields = $$(By.xpath("//label[@class='form-label w-100']"));
-        ElementsCollection checkBoxFields = $$(By.xpath("//label[@class='form-check-label w-100']"));
-
-        assertAll (
-                () -> assertEquals("Text input", formFields.get(0).getText(), "Text Input Field Name"),
-                () -> assertEquals("Password", formFields.get(1).getText(), "Password Input Field Name"),
-                () -> assertEquals("Textarea", formFields.get(2).getText(), "Disabled Input Field Name"),
-                () -> assertEquals("Disabled input", formFields.get(3).getText(), "Disabled Input Field Name"),
-                () -> assertEquals("Readonly input", formFields.get(4).getText(), "Readonly Input Field Name"),
-                () -> assertEquals("Dropdown (select)", formFields.get(5).getText().split("\n")[0].trim(),
-                        "Dropdown (select) Field Name"),
-                () -> assertEquals("Dropdown (datalist)", formFields.get(6).getText(), "Dropdown (datalist) Field Name"),
-                () -> assertEquals("File input", formFields.get(7).getText(), "File Input Field Name"),
-                () -> assertEquals("Checked checkbox", checkBoxFields.get(0).getText(), "Checked Checkbox Field Name"),
-                () -> assertEquals("Default checkbox", checkBoxFields.get(1).getText(), "Default Checkbox Field Name"),
-                () -> assertEquals("Checked radio", checkBoxFields.get(2).getText(), "Checked Radio Field Name"),
-                () -> assertEquals("Default radio", checkBoxFields.get(3).getText(), "Default Radio Field Name"),
-                () -> assertEquals("Color picker", formFields.get(8).getText(), "Color Picker Field Name"),
-                () -> assertEquals("Date picker", formFields.get(9).getText(), "Date Picker Field Name"),
-                () -> assertEquals("Example range", formFields.get(10).getText(), "Range Input Field Name")
-        );
-    }
-
-    @Test
-    @Order(6)
-    @DisplayName("Check user field")
-    void textInputTest() {
-        HomePage homePage = new HomePage();
-        homePage.open();
-        WebFormPage webFormPage = homePage.openWebForm();
-
-        webFormPage.inputLogin(config.getUsername());
-        String actualText = webFormPage.getTextValue();
-
-        assertThat(actualText).isNotEmpty();
-    }
-
-    @Test
-    @Order(7)
-    @DisplayName("Check clear user field")
-    void textInputClearTest() {
-        HomePage homePage = new HomePage();
-        homePage.open();
-        WebFormPage webFormPage = homePage.openWebForm();
-
-        webFormPage.inputLogin(config.getUsername());
-        webFormPage.clearTextValue();
-        String actualText = webFormPage.getTextValue();
-
-        assertThat(actualText).isEmpty();
-    }
-
-    @Test
-    @Order(8)
-    @DisplayName("Check password field")
-    void passwordInputTest() {
-        HomePage homePage = new HomePage();
-        homePage.open();
-        WebFormPage webFormPage = homePage.openWebForm();
-
-        webFormPage.inputPassword(config.getPassword());
-        String actualPassword = webFormPage.getTextPassword();
-
-        assertThat(actualPassword).isNotEmpty();
-    }
-
-    @Test
-    @Order(9)
-    @DisplayName("Check clear password field")
-    void passwordInputClearTest() {
-        HomePage homePage = new HomePage();
-        homePage.open();
-        WebFormPage webFormPage = homePage.openWebForm();
-
-        webFormPage.inputPassword(config.getPassword());
-        webFormPage.clearPasswordValue();
-        String actualPassword = webFormPage.getTextPassword();
-
-        assertThat(actualPassword).isEmpty();
-    }
-
     @Test
     @Order(10)
     @DisplayName("Check textarea field")
@@ -273,21 +209,6 @@ class WebFormSelenideTests {
         dropdownDataList.shouldHave(domProperty(VALUE_NAME));
     }
 
-    @Test
-    @Order(17)
-    @DisplayName("Check File input field")
-    void fileInputTest() {
-        String selectFile = System.getProperty("user.dir") + "/src/main/resources/STE In Banner.jpg";
-
-        SelenideElement fileInput = $("input[name='my-file']");
-        fileInput.uploadFile(new File(selectFile));
-
-        WebElement submit = $(By.xpath("//button[text()='Submit']"));
-        submit.click();
-
-        assertThat(url()).contains("STE+In+Banner.jpg");
-    }
-
     @Test
     @Order(18)
     @DisplayName("Check checked Checkbox")
@@ -384,6 +305,7 @@ class WebFormSelenideTests {
                     .perform();
 
         }
+        new Waits().forValue("[name='my-range']", "10");
         assertThat(rangeElement.getAttribute(VALUE_NAME)).isEqualTo(String.valueOf(10));
     }
 
@@ -393,18 +315,18 @@ class WebFormSelenideTests {
     void returnToIndexLinkTest() {
         SelenideElement returnToIndexLink = $(By.xpath("//a[@href = './index.html']"));
         returnToIndexLink.click();
+        new Waits().forUrl(config.getBaseUrl() + "index.html");
 
-        assertEquals("https://bonigarcia.dev/selenium-webdriver-java/index.html", url());
+        assertEquals(config.getBaseUrl() + "index.html", url());
     }
 
-    @Test
+    @RetryingTest
     @Order(25)
     @DisplayName("Check Copyright link")
     void boniGarciaLinkTest() {
         SelenideElement boniGarciaLink = $(By.xpath("//a[@href = 'https://bonigarcia.dev/']"));
-        boniGarciaLink.click();
 
-        assertEquals("https://bonigarcia.dev/", url());
+        assertEquals("https://bonigarcia.dev/", boniGarciaLink.getDomAttribute("href"));
     }
 
     @Test
@@ -420,15 +342,28 @@ class WebFormSelenideTests {
     @Order(27)
     @DisplayName("Check submit button and form submitted")
     void submitButtonTest() {
-        HomePage homePage = new HomePage();
-        homePage.open();
-        WebFormPage webFormPage = homePage.openWebForm();
-        webFormPage.submit();
+        String correlationId = UUID.randomUUID().toString();
+        SubmissionSink sink = FixtureServer.start().sink();
+        WebFormPage webFormPage = new WebFormPage();
+        webFormPage.submitTo(sink.url(), correlationId);
+
+        Submission submission = sink.await(correlationId, SUBMISSION_TIMEOUT);
 
-        assertThat(url()).contains("https://bonigarcia.dev/selenium-webdriver-java/submitted-form.html");
+        assertEquals("Readonly input", submission.field("my-readonly"));
+        assertEquals("#563d7c", submission.field("my-colors"));
+        assertEquals(webFormUrl, url());
+    }
+
+    @Test
+    @Order(29)
+    @DisplayName("Check large File input")
+    void largeFileInputTest() throws IOException {
+        assumeTrue(config.getUploadLargeFileMb() > 0, "uploadLargeFileMb is not set");
+        Path largeFile = UploadFixtures.largeFile(config.getUploadLargeFileMb());
+        WebFormPage webFormPage = new WebFormPage();
 
-        WebElement formSubmittedText = $(By.xpath("//h1[@class = 'display-6']"));
+        UploadProbe.measure("selenide", largeFile, () -> webFormPage.uploadFile(largeFile));
 
-        assertEquals("Form submitted", formSubmittedText.getText());
+        assertEquals(Files.size(largeFile), webFormPage.getSelectedFileSize());
     }
 }